@@ -0,0 +1,47 @@
+package co.com.pragma.config;
+
+import co.com.pragma.decorators.bloom.UserKeysBloomFilter;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BloomFilterConfig {
+
+    private final BloomFilterProperties properties;
+    private final IUserRepositoryPort userRepositoryPort;
+
+    @Bean
+    public UserKeysBloomFilter userKeysBloomFilter() {
+        return new UserKeysBloomFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+    }
+
+    /**
+     * Seeds the filter from the user table once the application is up. While seeding (or if it fails,
+     * or the filter is disabled) the filter is not ready and every lookup falls through to MySQL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedUserKeysBloomFilter() {
+        if (!Boolean.TRUE.equals(properties.enabled())) {
+            log.info("User keys Bloom filter disabled, existence checks go straight to the repository");
+            return;
+        }
+
+        UserKeysBloomFilter filter = userKeysBloomFilter();
+        userRepositoryPort.findAll()
+                .doOnNext(filter::add)
+                .count()
+                .subscribe(
+                        count -> {
+                            filter.markReady();
+                            log.info("User keys Bloom filter seeded with {} users", count);
+                        },
+                        error -> log.error("Could not seed the user keys Bloom filter, it stays disabled", error));
+    }
+}
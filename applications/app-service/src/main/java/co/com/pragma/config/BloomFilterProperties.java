@@ -0,0 +1,25 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.bloom-filter")
+public record BloomFilterProperties(
+        Boolean enabled,
+        Long expectedInsertions,
+        Double falsePositiveProbability) {
+
+    public static final long DEFAULT_EXPECTED_INSERTIONS = 1_000_000L;
+    public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    public BloomFilterProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (expectedInsertions == null) {
+            expectedInsertions = DEFAULT_EXPECTED_INSERTIONS;
+        }
+        if (falsePositiveProbability == null) {
+            falsePositiveProbability = DEFAULT_FALSE_POSITIVE_PROBABILITY;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.pragma.config;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Background loop shared by the configs that keep a local copy of something derived from the user table: reads
+ * it right away and then every {@code interval}, one read at a time. A failed read is handed to
+ * {@code onFailure} and the loop goes on with the next tick.
+ */
+final class PeriodicRefresh {
+
+    private PeriodicRefresh() {
+    }
+
+    static <T> Disposable start(Duration interval, Supplier<Mono<T>> read, Consumer<T> apply,
+                                Consumer<Throwable> onFailure) {
+        return start(Duration.ZERO, interval, read, apply, onFailure);
+    }
+
+    /**
+     * Same as {@link #start(Duration, Supplier, Consumer, Consumer)}, with the first read after {@code delay}.
+     */
+    static <T> Disposable start(Duration delay, Duration interval, Supplier<Mono<T>> read, Consumer<T> apply,
+                                Consumer<Throwable> onFailure) {
+        return Flux.interval(delay, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.defer(read)
+                        .onErrorResume(error -> {
+                            onFailure.accept(error);
+                            return Mono.empty();
+                        }))
+                .subscribe(apply);
+    }
+
+    static void stop(Disposable refresh) {
+        if (refresh != null) {
+            refresh.dispose();
+        }
+    }
+}
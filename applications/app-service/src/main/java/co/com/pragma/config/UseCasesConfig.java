@@ -1,9 +1,23 @@
 package co.com.pragma.config;
 
+import co.com.pragma.decorators.BloomFilterUserRepositoryPort;
+import co.com.pragma.decorators.CachingUserRepositoryPort;
+import co.com.pragma.decorators.SearchIndexUserRepositoryPort;
+import co.com.pragma.decorators.StatisticsTrackingUserRepositoryPort;
+import co.com.pragma.decorators.TransactionalUserBatchUseCase;
 import co.com.pragma.decorators.TransactionalUserUseCase;
+import co.com.pragma.decorators.VersionTrackingUserRepositoryPort;
+import co.com.pragma.decorators.bloom.UserKeysBloomFilter;
+import co.com.pragma.decorators.cache.UserCache;
+import co.com.pragma.decorators.search.UserSearchIndex;
 import co.com.pragma.model.user.ports.ILoggerPort;
 import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.r2dbc.config.UserInsertCoalescerProperties;
+import co.com.pragma.usecase.user.IUserBatchUseCase;
 import co.com.pragma.usecase.user.IUserUseCase;
+import co.com.pragma.usecase.user.UserBatchUseCase;
+import co.com.pragma.usecase.user.UserListVersion;
+import co.com.pragma.usecase.user.UserStatistics;
 import co.com.pragma.usecase.user.UserUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -20,7 +34,10 @@ import org.springframework.transaction.reactive.TransactionalOperator;
         },
         excludeFilters = @ComponentScan.Filter(
                 type = FilterType.ASSIGNABLE_TYPE,
-                classes = {co.com.pragma.usecase.user.UserUseCase.class}
+                classes = {
+                        co.com.pragma.usecase.user.UserUseCase.class,
+                        co.com.pragma.usecase.user.UserBatchUseCase.class
+                }
         ),
         useDefaultFilters = false
 )
@@ -30,10 +47,36 @@ public class UseCasesConfig {
     private final IUserRepositoryPort userRepositoryPort;
     private final ILoggerPort logger;
     private final TransactionalOperator transactionalOperator;
+    private final UserRegistrationProperties registrationProperties;
+    private final UserKeysBloomFilter userKeysBloomFilter;
+    private final UserCache userCache;
+    private final UserListVersion userListVersion;
+    private final UserStatistics userStatistics;
+    private final UserSearchIndex userSearchIndex;
+    private final UserInsertCoalescerProperties insertCoalescerProperties;
 
     @Bean
     public IUserUseCase userUseCase() {
-        IUserUseCase useCase = new UserUseCase(userRepositoryPort, logger);
-        return new TransactionalUserUseCase(useCase, transactionalOperator);
+        IUserUseCase useCase = new UserUseCase(
+                decoratedUserRepositoryPort(), logger, registrationProperties.strategy(), userListVersion,
+                userStatistics);
+        // coalesced inserts commit in the batch transaction of the coalescer, never in one opened here
+        return new TransactionalUserUseCase(useCase, transactionalOperator,
+                !Boolean.TRUE.equals(insertCoalescerProperties.enabled()));
+    }
+
+    @Bean
+    public IUserBatchUseCase userBatchUseCase() {
+        IUserBatchUseCase useCase = new UserBatchUseCase(
+                decoratedUserRepositoryPort(), logger, registrationProperties.batchChunkSize());
+        return new TransactionalUserBatchUseCase(useCase, transactionalOperator);
+    }
+
+    private IUserRepositoryPort decoratedUserRepositoryPort() {
+        IUserRepositoryPort bloomFiltered = new BloomFilterUserRepositoryPort(userRepositoryPort, userKeysBloomFilter);
+        IUserRepositoryPort searchIndexed = new SearchIndexUserRepositoryPort(bloomFiltered, userSearchIndex);
+        IUserRepositoryPort versionTracking = new VersionTrackingUserRepositoryPort(
+                new CachingUserRepositoryPort(searchIndexed, userCache), userListVersion);
+        return new StatisticsTrackingUserRepositoryPort(versionTracking, userStatistics);
     }
 }
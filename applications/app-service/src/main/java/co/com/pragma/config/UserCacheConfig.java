@@ -0,0 +1,14 @@
+package co.com.pragma.config;
+
+import co.com.pragma.decorators.cache.UserCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public UserCache userCache(UserCacheProperties properties) {
+        return new UserCache(properties.maximumSize(), properties.ttl());
+    }
+}
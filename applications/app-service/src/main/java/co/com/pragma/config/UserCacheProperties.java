@@ -0,0 +1,23 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "users.cache")
+public record UserCacheProperties(
+        Long maximumSize,
+        Duration ttl) {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    public UserCacheProperties {
+        if (maximumSize == null) {
+            maximumSize = DEFAULT_MAXIMUM_SIZE;
+        }
+        if (ttl == null) {
+            ttl = DEFAULT_TTL;
+        }
+    }
+}
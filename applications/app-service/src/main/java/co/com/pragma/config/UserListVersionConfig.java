@@ -0,0 +1,48 @@
+package co.com.pragma.config;
+
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserListVersion;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UserListVersionConfig {
+
+    private final UserListVersionProperties properties;
+    private final IUserRepositoryPort userRepositoryPort;
+    private volatile Disposable refresher;
+
+    @Bean
+    public UserListVersion userListVersion() {
+        return new UserListVersion();
+    }
+
+    /**
+     * Reads the table version right away and then every {@code refresh-interval}, which bounds how long users
+     * inserted by other nodes can go unnoticed by the ETag of the listing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startUserListVersionRefresh() {
+        UserListVersion listVersion = userListVersion();
+        refresher = PeriodicRefresh.start(properties.refreshInterval(),
+                userRepositoryPort::findTableVersion,
+                listVersion::refresh,
+                error -> {
+                    log.warn("Could not refresh the user list version: {}", error.getMessage());
+                    listVersion.invalidate();
+                });
+    }
+
+    @PreDestroy
+    public void stopUserListVersionRefresh() {
+        PeriodicRefresh.stop(refresher);
+    }
+}
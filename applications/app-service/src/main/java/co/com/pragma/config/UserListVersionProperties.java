@@ -0,0 +1,18 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "users.list-version")
+public record UserListVersionProperties(
+        Duration refreshInterval) {
+
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    public UserListVersionProperties {
+        if (refreshInterval == null) {
+            refreshInterval = DEFAULT_REFRESH_INTERVAL;
+        }
+    }
+}
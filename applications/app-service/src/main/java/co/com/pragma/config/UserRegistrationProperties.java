@@ -0,0 +1,19 @@
+package co.com.pragma.config;
+
+import co.com.pragma.usecase.user.RegistrationStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.registration")
+public record UserRegistrationProperties(
+        RegistrationStrategy strategy,
+        Integer batchChunkSize) {
+
+    public UserRegistrationProperties {
+        if (strategy == null) {
+            strategy = RegistrationStrategy.CHECK_FIRST;
+        }
+        if (batchChunkSize == null) {
+            batchChunkSize = 500;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package co.com.pragma.config;
+
+import co.com.pragma.decorators.search.UserSearchIndex;
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UserSearchIndexConfig {
+
+    private static final UserQuery INDEXED_FIELDS = UserQuery.all().withFields(EnumSet.of(
+            UserField.ID_USER, UserField.NAME, UserField.LAST_NAME, UserField.EMAIL, UserField.ID_NUMBER));
+    private static final UserQuery ID_USERS = UserQuery.all().withFields(EnumSet.of(UserField.ID_USER));
+
+    private final UserSearchIndexProperties properties;
+    private final IUserRepositoryPort userRepositoryPort;
+    private volatile Disposable catchUp;
+    private volatile Disposable reconcile;
+
+    @Bean
+    public UserSearchIndex userSearchIndex() {
+        return new UserSearchIndex(properties.maxCandidates());
+    }
+
+    /**
+     * Builds the index from the user table once the application is up, loading only the indexed columns. While
+     * building (or if it fails, or the index is disabled) searches go to MySQL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildUserSearchIndex() {
+        if (!Boolean.TRUE.equals(properties.enabled())) {
+            log.info("User search index disabled, searches go straight to the repository");
+            return;
+        }
+
+        UserSearchIndex index = userSearchIndex();
+        userRepositoryPort.findUsers(INDEXED_FIELDS)
+                .doOnNext(index::add)
+                .count()
+                .subscribe(
+                        count -> {
+                            index.markReady();
+                            log.info("User search index built with {} users", count);
+                            startCatchUp(index);
+                            startReconcile(index);
+                        },
+                        error -> log.error("Could not build the user search index, it stays disabled", error));
+    }
+
+    /**
+     * Every {@code catch-up-interval} adds the users registered by other nodes. Each round starts from the
+     * highest idUser known at the start of the previous one, so a row whose AUTO_INCREMENT id was committed late
+     * is still read as long as it commits within one interval.
+     */
+    private void startCatchUp(UserSearchIndex index) {
+        AtomicLong watermark = new AtomicLong(index.maxIdUser());
+        catchUp = Flux.interval(properties.catchUpInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    long from = watermark.getAndSet(index.maxIdUser());
+                    return userRepositoryPort.findUsers(INDEXED_FIELDS.withAfterIdUser(from))
+                            .doOnNext(index::add)
+                            .then()
+                            .onErrorResume(error -> {
+                                log.warn("Could not catch up the user search index: {}", error.getMessage());
+                                watermark.set(from);
+                                return Mono.empty();
+                            });
+                })
+                .subscribe();
+    }
+
+    /**
+     * Every {@code reconcile-interval} removes the users that are indexed but no longer in the user table. Only
+     * users indexed before the round started are candidates, so a user committed while the ids are being read
+     * is never dropped.
+     */
+    private void startReconcile(UserSearchIndex index) {
+        reconcile = PeriodicRefresh.start(properties.reconcileInterval(), properties.reconcileInterval(),
+                () -> {
+                    Set<Long> missing = index.idUsers();
+                    return userRepositoryPort.findUsers(ID_USERS)
+                            .doOnNext(user -> missing.remove(user.getIdUser()))
+                            .then(Mono.fromCallable(() -> missing));
+                },
+                missing -> {
+                    if (!missing.isEmpty()) {
+                        missing.forEach(index::remove);
+                        log.info("Removed {} users from the user search index", missing.size());
+                    }
+                },
+                error -> log.warn("Could not reconcile the user search index: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stopUserSearchIndexCatchUp() {
+        PeriodicRefresh.stop(catchUp);
+        PeriodicRefresh.stop(reconcile);
+    }
+}
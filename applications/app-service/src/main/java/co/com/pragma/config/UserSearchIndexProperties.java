@@ -0,0 +1,32 @@
+package co.com.pragma.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "users.search-index")
+public record UserSearchIndexProperties(
+        Boolean enabled,
+        Integer maxCandidates,
+        Duration catchUpInterval,
+        Duration reconcileInterval) {
+
+    public static final int DEFAULT_MAX_CANDIDATES = 2_000;
+    public static final Duration DEFAULT_CATCH_UP_INTERVAL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_RECONCILE_INTERVAL = Duration.ofMinutes(10);
+
+    public UserSearchIndexProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (maxCandidates == null) {
+            maxCandidates = DEFAULT_MAX_CANDIDATES;
+        }
+        if (catchUpInterval == null) {
+            catchUpInterval = DEFAULT_CATCH_UP_INTERVAL;
+        }
+        if (reconcileInterval == null) {
+            reconcileInterval = DEFAULT_RECONCILE_INTERVAL;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.pragma.config;
+
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserStatistics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UserStatsConfig {
+
+    private final UserStatsProperties properties;
+    private final IUserRepositoryPort userRepositoryPort;
+    private volatile Disposable reconciler;
+
+    @Bean
+    public UserStatistics userStatistics() {
+        return new UserStatistics(properties.salaryBucketWidth(), properties.salaryBuckets());
+    }
+
+    /**
+     * Loads the stats right away and recomputes them every {@code reconcile-interval}, which bounds how long
+     * users inserted by other nodes are missing from them. A failed reconcile keeps the last stats.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startUserStatsReconcile() {
+        UserStatistics statistics = userStatistics();
+        reconciler = PeriodicRefresh.start(properties.reconcileInterval(),
+                () -> userRepositoryPort.findStats(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()),
+                statistics::refresh,
+                error -> log.warn("Could not reconcile the user stats: {}", error.getMessage()));
+    }
+
+    @PreDestroy
+    public void stopUserStatsReconcile() {
+        PeriodicRefresh.stop(reconciler);
+    }
+}
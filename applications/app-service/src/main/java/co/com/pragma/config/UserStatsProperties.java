@@ -0,0 +1,28 @@
+package co.com.pragma.config;
+
+import co.com.pragma.usecase.user.UserStatistics;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "users.stats")
+public record UserStatsProperties(
+        Duration reconcileInterval,
+        BigDecimal salaryBucketWidth,
+        Integer salaryBuckets) {
+
+    public static final Duration DEFAULT_RECONCILE_INTERVAL = Duration.ofMinutes(1);
+
+    public UserStatsProperties {
+        if (reconcileInterval == null) {
+            reconcileInterval = DEFAULT_RECONCILE_INTERVAL;
+        }
+        if (salaryBucketWidth == null) {
+            salaryBucketWidth = UserStatistics.DEFAULT_SALARY_BUCKET_WIDTH;
+        }
+        if (salaryBuckets == null) {
+            salaryBuckets = UserStatistics.DEFAULT_SALARY_BUCKETS;
+        }
+    }
+}
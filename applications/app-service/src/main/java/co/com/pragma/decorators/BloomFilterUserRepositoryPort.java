@@ -0,0 +1,92 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.bloom.UserKeysBloomFilter;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Answers email / idNumber existence checks from {@link UserKeysBloomFilter} when the key is definitely absent,
+ * falling through to the repository only for "maybe present" keys.
+ * <p>
+ * A key registered by another node after this one was seeded is not in the local filter; such inserts are
+ * still rejected by the unique constraints of the user table. Reads have no such backstop, so lookups such as
+ * {@code findByIdNumber} always go to the repository.
+ */
+public class BloomFilterUserRepositoryPort extends DelegatingUserRepositoryPort {
+    private final UserKeysBloomFilter filter;
+
+    public BloomFilterUserRepositoryPort(IUserRepositoryPort delegate, UserKeysBloomFilter filter) {
+        super(delegate);
+        this.filter = filter;
+    }
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return delegate.saveUser(user)
+                .doOnNext(filter::add);
+    }
+
+    @Override
+    public Flux<User> saveAllUsers(Flux<User> users) {
+        return delegate.saveAllUsers(users)
+                .doOnNext(filter::add);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        if (!filter.mightContainEmail(email)) {
+            return Mono.just(false);
+        }
+        return delegate.existsByEmail(email)
+                .doOnNext(this::recordIfReady);
+    }
+
+    @Override
+    public Mono<Boolean> existsByIdNumber(String idNumber) {
+        if (!filter.mightContainIdNumber(idNumber)) {
+            return Mono.just(false);
+        }
+        return delegate.existsByIdNumber(idNumber)
+                .doOnNext(this::recordIfReady);
+    }
+
+    @Override
+    public Mono<UserConflicts> findConflicts(User user) {
+        boolean emailMaybe = filter.mightContainEmail(user.getEmail());
+        boolean idNumberMaybe = filter.mightContainIdNumber(user.getIdNumber());
+        if (user.getIdUser() == null && !emailMaybe && !idNumberMaybe) {
+            return Mono.just(UserConflicts.none());
+        }
+        return delegate.findConflicts(user)
+                .doOnNext(conflicts -> {
+                    if (emailMaybe) {
+                        recordIfReady(conflicts.isEmailTaken());
+                    }
+                    if (idNumberMaybe) {
+                        recordIfReady(conflicts.isIdNumberTaken());
+                    }
+                });
+    }
+
+    @Override
+    public Flux<User> findByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers) {
+        List<String> maybeEmails = emails.stream().filter(filter::mightContainEmail).toList();
+        List<String> maybeIdNumbers = idNumbers.stream().filter(filter::mightContainIdNumber).toList();
+        if (maybeEmails.isEmpty() && maybeIdNumbers.isEmpty()) {
+            return Flux.empty();
+        }
+        return delegate.findByEmailsOrIdNumbers(maybeEmails, maybeIdNumbers);
+    }
+
+    private void recordIfReady(boolean actuallyPresent) {
+        if (filter.isReady()) {
+            filter.recordMaybePresent(actuallyPresent);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.cache.UserCache;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves single-user lookups from {@link UserCache}. Saved users replace their cached copies once the write
+ * commits, so a node never returns a stale copy of a user it wrote itself, nor a user whose transaction rolled
+ * back; writes made by other nodes become visible once the entry expires.
+ */
+public class CachingUserRepositoryPort extends CommitListeningUserRepositoryPort {
+    private final UserCache cache;
+
+    public CachingUserRepositoryPort(IUserRepositoryPort delegate, UserCache cache) {
+        super(delegate);
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return super.saveUser(user)
+                // the outcome of a failed write is unknown, so the next read goes to the repository
+                .doOnError(error -> cache.invalidate(user));
+    }
+
+    @Override
+    protected void committed(User user) {
+        cache.put(user);
+    }
+
+    @Override
+    protected void rolledBack(User user) {
+        // a read inside the rolled-back transaction may have cached the row
+        cache.invalidate(user);
+    }
+
+    @Override
+    public Mono<User> findByIdUser(Long idUser) {
+        return cache.getByIdUser(idUser, () -> delegate.findByIdUser(idUser));
+    }
+
+    @Override
+    public Mono<User> findByIdNumber(String idNumber) {
+        return cache.getByIdNumber(idNumber, () -> delegate.findByIdNumber(idNumber));
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the decorators that mirror saved users into local state (cache, search index, list version, stats).
+ * {@link #committed(User)} is only called once the save is durable: after the surrounding transaction commits,
+ * never for a transaction that rolls back, and right away when the save runs without a transaction. Saves of a
+ * rolled-back transaction are handed to {@link #rolledBack(User)} instead.
+ */
+public abstract class CommitListeningUserRepositoryPort extends DelegatingUserRepositoryPort {
+
+    protected CommitListeningUserRepositoryPort(IUserRepositoryPort delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Applies one committed user to the local state. Must not block.
+     */
+    protected abstract void committed(User user);
+
+    /**
+     * Called for a saved user whose transaction rolled back. Must not block.
+     */
+    protected void rolledBack(User user) {
+    }
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return delegate.saveUser(user)
+                .flatMap(saved -> afterCommit(List.of(saved)).thenReturn(saved));
+    }
+
+    @Override
+    public Flux<User> saveAllUsers(Flux<User> users) {
+        return Flux.defer(() -> {
+            List<User> saved = new ArrayList<>();
+            return delegate.saveAllUsers(users)
+                    .doOnNext(saved::add)
+                    .concatWith(Mono.defer(() -> afterCommit(saved)).then(Mono.<User>empty()));
+        });
+    }
+
+    private Mono<Void> afterCommit(List<User> saved) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizationManager -> {
+                    if (!synchronizationManager.isSynchronizationActive()) {
+                        return notifyCommitted(saved);
+                    }
+                    synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return notifyCommitted(saved);
+                        }
+
+                        @Override
+                        public Mono<Void> afterCompletion(int status) {
+                            return status == STATUS_ROLLED_BACK ? notifyRolledBack(saved) : Mono.empty();
+                        }
+                    });
+                    return Mono.empty();
+                })
+                .onErrorResume(NoTransactionException.class, error -> notifyCommitted(saved));
+    }
+
+    private Mono<Void> notifyCommitted(List<User> saved) {
+        return Mono.fromRunnable(() -> saved.forEach(this::committed));
+    }
+
+    private Mono<Void> notifyRolledBack(List<User> saved) {
+        return Mono.fromRunnable(() -> saved.forEach(this::rolledBack));
+    }
+}
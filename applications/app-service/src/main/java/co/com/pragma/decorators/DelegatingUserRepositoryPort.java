@@ -0,0 +1,93 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Base of the {@link IUserRepositoryPort} decorators: forwards every call to {@code delegate}, so a decorator
+ * only overrides the operations it changes.
+ */
+@RequiredArgsConstructor
+public abstract class DelegatingUserRepositoryPort implements IUserRepositoryPort {
+    protected final IUserRepositoryPort delegate;
+
+    @Override
+    public Mono<User> saveUser(User user) {
+        return delegate.saveUser(user);
+    }
+
+    @Override
+    public Flux<User> saveAllUsers(Flux<User> users) {
+        return delegate.saveAllUsers(users);
+    }
+
+    @Override
+    public Mono<User> findByIdUser(Long idUser) {
+        return delegate.findByIdUser(idUser);
+    }
+
+    @Override
+    public Mono<User> findByIdNumber(String idNumber) {
+        return delegate.findByIdNumber(idNumber);
+    }
+
+    @Override
+    public Mono<Boolean> existsByIdUser(Long idUser) {
+        return delegate.existsByIdUser(idUser);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Mono<Boolean> existsByIdNumber(String idNumber) {
+        return delegate.existsByIdNumber(idNumber);
+    }
+
+    @Override
+    public Mono<UserConflicts> findConflicts(User user) {
+        return delegate.findConflicts(user);
+    }
+
+    @Override
+    public Flux<User> findByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers) {
+        return delegate.findByEmailsOrIdNumbers(emails, idNumbers);
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Mono<UserTableVersion> findTableVersion() {
+        return delegate.findTableVersion();
+    }
+
+    @Override
+    public Flux<User> findUsers(UserQuery query) {
+        return delegate.findUsers(query);
+    }
+
+    @Override
+    public Mono<UserStats> findStats(BigDecimal salaryBucketWidth, int salaryBuckets) {
+        return delegate.findStats(salaryBucketWidth, salaryBuckets);
+    }
+
+    @Override
+    public Flux<User> searchUsers(String text, int limit) {
+        return delegate.searchUsers(text, limit);
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.search.UserSearchIndex;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import reactor.core.publisher.Flux;
+
+/**
+ * Answers user searches from {@link UserSearchIndex} once it has been built, and adds every saved user to it
+ * once the save commits. Until then searches fall through to the repository.
+ * <p>
+ * Users registered by other nodes are added by the periodic catch-up of the index, so they can be missing from
+ * results for up to one catch-up interval.
+ */
+public class SearchIndexUserRepositoryPort extends CommitListeningUserRepositoryPort {
+    private final UserSearchIndex index;
+
+    public SearchIndexUserRepositoryPort(IUserRepositoryPort delegate, UserSearchIndex index) {
+        super(delegate);
+        this.index = index;
+    }
+
+    @Override
+    protected void committed(User user) {
+        index.add(user);
+    }
+
+    @Override
+    public Flux<User> searchUsers(String text, int limit) {
+        if (!index.isReady()) {
+            return delegate.searchUsers(text, limit);
+        }
+        return Flux.defer(() -> Flux.fromIterable(index.search(text, limit)));
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserStatistics;
+
+/**
+ * Applies every committed save to {@link UserStatistics}, so the stats of this node stay current between
+ * reconciles without querying the user table.
+ */
+public class StatisticsTrackingUserRepositoryPort extends CommitListeningUserRepositoryPort {
+    private final UserStatistics statistics;
+
+    public StatisticsTrackingUserRepositoryPort(IUserRepositoryPort delegate, UserStatistics statistics) {
+        super(delegate);
+        this.statistics = statistics;
+    }
+
+    @Override
+    protected void committed(User user) {
+        statistics.inserted(user);
+    }
+}
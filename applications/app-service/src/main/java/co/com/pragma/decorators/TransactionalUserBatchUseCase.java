@@ -0,0 +1,31 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.usecase.user.IUserBatchUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Runs every chunk in its own transaction, so a batch commits once per chunk instead of once per user.
+ */
+@RequiredArgsConstructor
+public class TransactionalUserBatchUseCase implements IUserBatchUseCase {
+    private final IUserBatchUseCase delegate;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public int chunkSize() {
+        return delegate.chunkSize();
+    }
+
+    @Override
+    public Flux<UserBatchResult> saveChunk(List<User> users) {
+        return transactionalOperator.transactional(
+                delegate.saveChunk(users)
+        );
+    }
+}
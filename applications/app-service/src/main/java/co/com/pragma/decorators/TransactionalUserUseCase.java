@@ -1,19 +1,41 @@
 package co.com.pragma.decorators;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserPage;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import co.com.pragma.usecase.user.IUserUseCase;
-import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-@RequiredArgsConstructor
 public class TransactionalUserUseCase implements IUserUseCase {
     private final IUserUseCase delegate;
     private final TransactionalOperator transactionalOperator;
+    private final boolean transactionalSave;
+
+    public TransactionalUserUseCase(IUserUseCase delegate, TransactionalOperator transactionalOperator) {
+        this(delegate, transactionalOperator, true);
+    }
+
+    /**
+     * @param transactionalSave {@code false} when single-user inserts are coalesced: the coalescer writes each
+     *                          batch in its own transaction, and a caller transaction around the save would hold a
+     *                          pooled connection while waiting for the batch to take another one.
+     */
+    public TransactionalUserUseCase(IUserUseCase delegate, TransactionalOperator transactionalOperator,
+                                    boolean transactionalSave) {
+        this.delegate = delegate;
+        this.transactionalOperator = transactionalOperator;
+        this.transactionalSave = transactionalSave;
+    }
 
     @Override
     public Mono<User> save(User user) {
+        if (!transactionalSave) {
+            return delegate.save(user);
+        }
         return transactionalOperator.transactional(
                 delegate.save(user)
         );
@@ -25,4 +47,44 @@ public class TransactionalUserUseCase implements IUserUseCase {
                 delegate.findAll()
         );
     }
+
+    @Override
+    public Flux<User> findAll(UserQuery query) {
+        return transactionalOperator.transactional(
+                delegate.findAll(query)
+        );
+    }
+
+    @Override
+    public Mono<UserPage> findPage(UserQuery query) {
+        return transactionalOperator.transactional(
+                delegate.findPage(query)
+        );
+    }
+
+    @Override
+    public Mono<User> findById(Long idUser) {
+        // single-row reads served from the cache must not open a transaction
+        return delegate.findById(idUser);
+    }
+
+    @Override
+    public Mono<User> findByIdNumber(String idNumber) {
+        return delegate.findByIdNumber(idNumber);
+    }
+
+    @Override
+    public UserTableVersion listVersion() {
+        return delegate.listVersion();
+    }
+
+    @Override
+    public Mono<UserStats> stats() {
+        return delegate.stats();
+    }
+
+    @Override
+    public Flux<User> search(String text, int limit) {
+        return delegate.search(text, limit);
+    }
 }
\ No newline at end of file
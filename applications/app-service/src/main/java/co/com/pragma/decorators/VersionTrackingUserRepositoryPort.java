@@ -0,0 +1,24 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserListVersion;
+
+/**
+ * Moves {@link UserListVersion} forward as soon as a save commits, so this node stops answering "not modified"
+ * for the listing without waiting for the next version refresh. Saves that roll back leave the version alone,
+ * otherwise it would point at rows that never existed and the next refresh could not tell it apart.
+ */
+public class VersionTrackingUserRepositoryPort extends CommitListeningUserRepositoryPort {
+    private final UserListVersion listVersion;
+
+    public VersionTrackingUserRepositoryPort(IUserRepositoryPort delegate, UserListVersion listVersion) {
+        super(delegate);
+        this.listVersion = listVersion;
+    }
+
+    @Override
+    protected void committed(User user) {
+        listVersion.inserted(user.getIdUser());
+    }
+}
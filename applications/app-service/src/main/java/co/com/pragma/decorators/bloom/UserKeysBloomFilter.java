@@ -0,0 +1,117 @@
+package co.com.pragma.decorators.bloom;
+
+import co.com.pragma.model.user.entities.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloom filters of every registered email and idNumber. Until {@link #markReady()} is called (the initial
+ * load from the user table finished) the filter never answers "definitely absent".
+ * <p>
+ * Keys are lower-cased because the MySQL collation of the user table is case-insensitive.
+ */
+public class UserKeysBloomFilter implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "users.bloom.filter";
+
+    private final BloomFilter emails;
+    private final BloomFilter idNumbers;
+    private final AtomicLong maybePresentAnswers = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private volatile boolean ready;
+
+    public UserKeysBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        this.emails = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.idNumbers = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public void add(User user) {
+        if (user.getEmail() != null) {
+            emails.put(normalize(user.getEmail()));
+        }
+        if (user.getIdNumber() != null) {
+            idNumbers.put(normalize(user.getIdNumber()));
+        }
+    }
+
+    /**
+     * @return {@code false} only when the email is definitely not registered.
+     */
+    public boolean mightContainEmail(String email) {
+        return !ready || email == null || emails.mightContain(normalize(email));
+    }
+
+    /**
+     * @return {@code false} only when the idNumber is definitely not registered.
+     */
+    public boolean mightContainIdNumber(String idNumber) {
+        return !ready || idNumber == null || idNumbers.mightContain(normalize(idNumber));
+    }
+
+    /**
+     * Records the repository answer for a key the filter reported as "maybe present".
+     */
+    public void recordMaybePresent(boolean actuallyPresent) {
+        maybePresentAnswers.incrementAndGet();
+        if (!actuallyPresent) {
+            falsePositives.incrementAndGet();
+        }
+    }
+
+    public double falsePositiveRate() {
+        long answers = maybePresentAnswers.get();
+        return answers == 0 ? 0.0 : (double) falsePositives.get() / answers;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindFilter(registry, "email", emails);
+        bindFilter(registry, "id_number", idNumbers);
+
+        FunctionCounter.builder(METRIC_PREFIX + ".maybe.present", maybePresentAnswers, AtomicLong::get)
+                .description("Lookups the filter answered as maybe present and were checked against MySQL")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".false.positives", falsePositives, AtomicLong::get)
+                .description("Maybe-present answers that MySQL reported as absent")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this, UserKeysBloomFilter::falsePositiveRate)
+                .description("Observed false-positive hit rate")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".ready", this, filter -> filter.isReady() ? 1 : 0)
+                .description("1 once the filter has been seeded from the user table")
+                .register(registry);
+    }
+
+    private static void bindFilter(MeterRegistry registry, String key, BloomFilter filter) {
+        Gauge.builder(METRIC_PREFIX + ".size", filter, BloomFilter::bitSize)
+                .tag("key", key)
+                .description("Size of the filter in bits")
+                .baseUnit("bits")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".insertions", filter, BloomFilter::insertions)
+                .tag("key", key)
+                .description("Keys added to the filter")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".fill.ratio", filter, BloomFilter::fillRatio)
+                .tag("key", key)
+                .description("Fraction of bits set")
+                .register(registry);
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
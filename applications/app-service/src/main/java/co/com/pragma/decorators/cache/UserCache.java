@@ -0,0 +1,84 @@
+package co.com.pragma.decorators.cache;
+
+import co.com.pragma.model.user.entities.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through caches of users by idUser and by idNumber. Concurrent misses for the same key share
+ * one load, and lookups that find no user are not cached.
+ * <p>
+ * idNumber keys are lower-cased because the MySQL collation of the user table is case-insensitive.
+ */
+public class UserCache implements MeterBinder {
+
+    private final AsyncCache<Long, User> byIdUser;
+    private final AsyncCache<String, User> byIdNumber;
+
+    public UserCache(long maximumSize, Duration ttl) {
+        this.byIdUser = newCache(maximumSize, ttl);
+        this.byIdNumber = newCache(maximumSize, ttl);
+    }
+
+    public Mono<User> getByIdUser(Long idUser, Supplier<Mono<User>> loader) {
+        return get(byIdUser, idUser, loader);
+    }
+
+    public Mono<User> getByIdNumber(String idNumber, Supplier<Mono<User>> loader) {
+        return get(byIdNumber, normalize(idNumber), loader);
+    }
+
+    /**
+     * Replaces any cached copy of the user with the given one.
+     */
+    public void put(User user) {
+        CompletableFuture<User> value = CompletableFuture.completedFuture(user);
+        if (user.getIdUser() != null) {
+            byIdUser.put(user.getIdUser(), value);
+        }
+        if (user.getIdNumber() != null) {
+            byIdNumber.put(normalize(user.getIdNumber()), value);
+        }
+    }
+
+    public void invalidate(User user) {
+        if (user.getIdUser() != null) {
+            byIdUser.synchronous().invalidate(user.getIdUser());
+        }
+        if (user.getIdNumber() != null) {
+            byIdNumber.synchronous().invalidate(normalize(user.getIdNumber()));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byIdUser, "users.by.id.user");
+        CaffeineCacheMetrics.monitor(registry, byIdNumber, "users.by.id.number");
+    }
+
+    private static <K> Mono<User> get(AsyncCache<K, User> cache, K key, Supplier<Mono<User>> loader) {
+        // cancelling one caller must not cancel the load shared with the other callers of the same key
+        return Mono.defer(() -> Mono.fromFuture(cache.get(key, (k, executor) -> loader.get().toFuture()), true));
+    }
+
+    private static <K> AsyncCache<K, User> newCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    private static String normalize(String idNumber) {
+        return idNumber.toLowerCase(Locale.ROOT);
+    }
+}
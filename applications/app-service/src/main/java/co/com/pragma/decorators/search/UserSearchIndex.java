@@ -0,0 +1,275 @@
+package co.com.pragma.decorators.search;
+
+import co.com.pragma.model.user.entities.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over the name, last name and email of every user. Tokens are normalized (lower case,
+ * accents removed) and kept in a sorted concurrent map, so a prefix lookup is a range scan that never touches
+ * MySQL. Until {@link #markReady()} is called (the initial load finished) the index must not be queried.
+ * <p>
+ * Every whitespace-separated term of the query has to prefix-match a token of the user. Matches on the name
+ * rank above matches on the email, and exact tokens above prefixes.
+ */
+public class UserSearchIndex implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "users.search.index";
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NAME_SEPARATORS = Pattern.compile("[\\s'-]+");
+    private static final Pattern EMAIL_SEPARATORS = Pattern.compile("[@._+-]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final NavigableMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong maxIdUser = new AtomicLong();
+    private final int maxCandidates;
+    private volatile boolean ready;
+
+    /**
+     * @param maxCandidates users ranked per lookup at most, which bounds the cost of very short prefixes.
+     */
+    public UserSearchIndex(int maxCandidates) {
+        if (maxCandidates <= 0) {
+            throw new IllegalArgumentException("maxCandidates must be greater than 0");
+        }
+        this.maxCandidates = maxCandidates;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the highest idUser added so far, 0 when the index is empty.
+     */
+    public long maxIdUser() {
+        return maxIdUser.get();
+    }
+
+    public void add(User user) {
+        if (user.getIdUser() == null) {
+            return;
+        }
+        Entry entry = new Entry(
+                new User()
+                        .setIdUser(user.getIdUser())
+                        .setName(user.getName())
+                        .setLastName(user.getLastName())
+                        .setEmail(user.getEmail())
+                        .setIdNumber(user.getIdNumber()),
+                nameTokens(user),
+                emailTokens(user.getEmail()));
+        entries.put(user.getIdUser(), entry);
+        maxIdUser.accumulateAndGet(user.getIdUser(), Math::max);
+        for (String token : entry.nameTokens()) {
+            index(token, user.getIdUser());
+        }
+        for (String token : entry.emailTokens()) {
+            index(token, user.getIdUser());
+        }
+    }
+
+    /**
+     * Drops the user and its tokens. The highest idUser is left as is, it only marks how far the index has read.
+     */
+    public void remove(Long idUser) {
+        Entry entry = idUser == null ? null : entries.remove(idUser);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.nameTokens()) {
+            unindex(token, idUser);
+        }
+        for (String token : entry.emailTokens()) {
+            unindex(token, idUser);
+        }
+    }
+
+    /**
+     * @return a snapshot of the idUser of every indexed user.
+     */
+    public Set<Long> idUsers() {
+        return new HashSet<>(entries.keySet());
+    }
+
+    /**
+     * @return up to {@code limit} users matching every term of the query, best match first. Only idUser, name,
+     * lastName, email and idNumber are loaded.
+     */
+    public List<User> search(String query, int limit) {
+        String[] terms = terms(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        // the longest term is the most selective one to draw candidates from
+        String driver = terms[0];
+        for (String term : terms) {
+            if (term.length() > driver.length()) {
+                driver = term;
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long idUser : candidates(driver)) {
+            Entry entry = entries.get(idUser);
+            int score = entry == null ? 0 : entry.score(terms);
+            if (score > 0) {
+                matches.add(new Match(entry.user(), score));
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::score).reversed()
+                        .thenComparing(match -> match.user().getIdUser()))
+                .limit(limit)
+                .map(Match::user)
+                .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".users", entries, Map::size)
+                .description("Users in the search index")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".tokens", tokens, Map::size)
+                .description("Distinct tokens in the search index")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".ready", this, index -> index.isReady() ? 1 : 0)
+                .description("1 once the index has been built from the user table")
+                .register(registry);
+    }
+
+    private Set<Long> candidates(String prefix) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        // exact tokens first, so they survive the candidate cap
+        Set<Long> exact = tokens.get(prefix);
+        if (exact != null) {
+            addCandidates(candidates, exact);
+        }
+        for (Set<Long> ids : tokens.subMap(prefix, false, prefix + Character.MAX_VALUE, false).values()) {
+            if (candidates.size() >= maxCandidates) {
+                break;
+            }
+            addCandidates(candidates, ids);
+        }
+        return candidates;
+    }
+
+    private void addCandidates(Set<Long> candidates, Set<Long> ids) {
+        for (Long id : ids) {
+            if (candidates.size() >= maxCandidates) {
+                return;
+            }
+            candidates.add(id);
+        }
+    }
+
+    private void index(String token, Long idUser) {
+        tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(idUser);
+    }
+
+    private void unindex(String token, Long idUser) {
+        tokens.computeIfPresent(token, (key, ids) -> {
+            ids.remove(idUser);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static String[] nameTokens(User user) {
+        Set<String> result = new LinkedHashSet<>();
+        split(result, user.getName(), NAME_SEPARATORS);
+        split(result, user.getLastName(), NAME_SEPARATORS);
+        return result.toArray(String[]::new);
+    }
+
+    private static String[] emailTokens(String email) {
+        Set<String> result = new LinkedHashSet<>();
+        if (email != null && !email.isBlank()) {
+            // the whole address lets prefixes such as "john.d" match
+            result.add(normalize(email.trim()));
+            split(result, email, EMAIL_SEPARATORS);
+        }
+        return result.toArray(String[]::new);
+    }
+
+    private static void split(Set<String> result, String value, Pattern separators) {
+        if (value == null) {
+            return;
+        }
+        for (String token : separators.split(normalize(value))) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+    }
+
+    static String[] terms(String query) {
+        if (query == null || query.isBlank()) {
+            return new String[0];
+        }
+        return WHITESPACE.split(normalize(query.trim()));
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(User user, String[] nameTokens, String[] emailTokens) {
+
+        /**
+         * Sum of the best match of every term, or 0 when some term matches nothing.
+         */
+        int score(String[] terms) {
+            int total = 0;
+            for (String term : terms) {
+                int best = Math.max(best(nameTokens, term, 4), best(emailTokens, term, 2));
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        private static int best(String[] tokens, String term, int exactScore) {
+            int best = 0;
+            for (String token : tokens) {
+                if (token.equals(term)) {
+                    return exactScore;
+                }
+                if (token.startsWith(term)) {
+                    best = exactScore - 1;
+                }
+            }
+            return best;
+        }
+    }
+
+    private record Match(User user, int score) {
+    }
+}
@@ -0,0 +1,68 @@
+package co.com.pragma.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeriodicRefreshTest {
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.getOrSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void start_ShouldReadRightAwayAndThenEveryInterval() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+
+        // When
+        Disposable refresh = PeriodicRefresh.start(Duration.ofSeconds(10),
+                () -> Mono.just(reads.incrementAndGet()), applied::add, error -> { });
+        scheduler.advanceTimeBy(Duration.ofSeconds(20));
+        PeriodicRefresh.stop(refresh);
+        scheduler.advanceTimeBy(Duration.ofSeconds(20));
+
+        // Then
+        assertThat(applied).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void start_WhenReadFails_ShouldReportItAndKeepRefreshing() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        // When
+        Disposable refresh = PeriodicRefresh.start(Duration.ofSeconds(10),
+                () -> reads.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("database down"))
+                        : Mono.just(reads.get()),
+                applied::add, failures::add);
+        scheduler.advanceTimeBy(Duration.ofSeconds(10));
+        refresh.dispose();
+
+        // Then
+        assertThat(failures).singleElement().isInstanceOf(IllegalStateException.class);
+        assertThat(applied).containsExactly(2);
+    }
+}
@@ -0,0 +1,118 @@
+package co.com.pragma.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Serves a user listing through Reactor Netty with the {@code server.compression} settings of application.yaml.
+ */
+class ResponseCompressionTest {
+
+    private static WebServer server;
+    private static WebTestClient client;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"))
+                .forEach(environment.getPropertySources()::addLast);
+        Compression compression = Binder.get(environment)
+                .bind("server.compression", Compression.class)
+                .orElseThrow(IllegalStateException::new);
+
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(0);
+        factory.setCompression(compression);
+        server = factory.getWebServer(RouterFunctions.toHttpHandler(
+                route(GET("/api/v1/users"), request -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(listing(Integer.parseInt(request.queryParam("limit").orElseThrow()))))));
+        server.start();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void listingAboveMinResponseSize_ShouldBeGzipped() {
+        String listing = listing(50);
+        assertTrue(listing.length() > 2048);
+
+        byte[] body = client.get()
+                .uri("/api/v1/users?limit=50")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectBody().returnResult().getResponseBody();
+
+        assertEquals(listing, gunzip(body));
+    }
+
+    @Test
+    void listingBelowMinResponseSize_ShouldBeSentAsIs() {
+        assertTrue(listing(1).length() < 2048);
+
+        client.get()
+                .uri("/api/v1/users?limit=1")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(String.class).isEqualTo(listing(1));
+    }
+
+    @Test
+    void listingWithoutAcceptEncoding_ShouldBeSentAsIs() {
+        client.get()
+                .uri("/api/v1/users?limit=50")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(String.class).isEqualTo(listing(50));
+    }
+
+    private static String listing(int users) {
+        return IntStream.rangeClosed(1, users)
+                .mapToObj(id -> "{\"id_number\":\"" + (1000000 + id) + "\",\"name\":\"John\",\"last_name\":\"Doe\","
+                        + "\"email\":\"john" + id + "@pragma.com.co\",\"birth_date\":\"1990-01-01\","
+                        + "\"address\":\"calle 12\",\"phone\":\"3001234567\",\"role_id\":1,\"base_salary\":5000}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String gunzip(byte[] body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package co.com.pragma.config;
 
+import co.com.pragma.decorators.TransactionalUserBatchUseCase;
 import co.com.pragma.decorators.TransactionalUserUseCase;
+import co.com.pragma.decorators.bloom.UserKeysBloomFilter;
+import co.com.pragma.decorators.cache.UserCache;
+import co.com.pragma.decorators.search.UserSearchIndex;
 import co.com.pragma.model.user.ports.ILoggerPort;
 import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.r2dbc.config.UserInsertCoalescerProperties;
+import co.com.pragma.usecase.user.IUserBatchUseCase;
 import co.com.pragma.usecase.user.IUserUseCase;
+import co.com.pragma.usecase.user.RegistrationStrategy;
+import co.com.pragma.usecase.user.UserBatchUseCase;
+import co.com.pragma.usecase.user.UserListVersion;
+import co.com.pragma.usecase.user.UserStatistics;
 import co.com.pragma.usecase.user.UserUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +28,8 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -34,11 +46,22 @@ class UseCasesConfigTest {
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    private final UserRegistrationProperties registrationProperties =
+            new UserRegistrationProperties(RegistrationStrategy.CHECK_FIRST, 500);
+
+    private final UserKeysBloomFilter userKeysBloomFilter = new UserKeysBloomFilter(1_000, 0.01);
+    private final UserCache userCache = new UserCache(100, Duration.ofMinutes(1));
+    private final UserListVersion userListVersion = new UserListVersion();
+    private final UserStatistics userStatistics = new UserStatistics();
+    private final UserSearchIndex userSearchIndex = new UserSearchIndex(100);
+    private final UserInsertCoalescerProperties insertCoalescerProperties =
+            new UserInsertCoalescerProperties(false, null, null, null, null);
+
     private UseCasesConfig useCasesConfig;
 
     @BeforeEach
     void setUp() {
-        useCasesConfig = new UseCasesConfig(userRepositoryPort, logger, transactionalOperator);
+        useCasesConfig = new UseCasesConfig(userRepositoryPort, logger, transactionalOperator, registrationProperties, userKeysBloomFilter, userCache, userListVersion, userStatistics, userSearchIndex, insertCoalescerProperties);
     }
 
     @Test
@@ -64,12 +87,22 @@ class UseCasesConfigTest {
         // If you have a getter for the wrapped usecase, you could verify it here
     }
 
+    @Test
+    void userBatchUseCase_WithValidDependencies_ReturnsTransactionalDecorator() {
+        // When
+        IUserBatchUseCase result = useCasesConfig.userBatchUseCase();
+
+        // Then
+        assertThat(result).isInstanceOf(TransactionalUserBatchUseCase.class);
+        assertThat(result.chunkSize()).isEqualTo(500);
+    }
+
     @Test
     void constructor_WithAllDependencies_InitializesCorrectly() {
         // Given - dependencies are already mocked in setUp()
 
         // When
-        UseCasesConfig config = new UseCasesConfig(userRepositoryPort, logger, transactionalOperator);
+        UseCasesConfig config = new UseCasesConfig(userRepositoryPort, logger, transactionalOperator, registrationProperties, userKeysBloomFilter, userCache, userListVersion, userStatistics, userSearchIndex, insertCoalescerProperties);
 
         // Then
         assertThat(config).isNotNull();
@@ -111,6 +144,41 @@ class UseCasesConfigTest {
             public TransactionalOperator transactionalOperator() {
                 return mock(TransactionalOperator.class);
             }
+
+            @Bean
+            public UserRegistrationProperties userRegistrationProperties() {
+                return new UserRegistrationProperties(RegistrationStrategy.INSERT_FIRST, 500);
+            }
+
+            @Bean
+            public UserKeysBloomFilter userKeysBloomFilter() {
+                return new UserKeysBloomFilter(1_000, 0.01);
+            }
+
+            @Bean
+            public UserCache userCache() {
+                return new UserCache(100, Duration.ofMinutes(1));
+            }
+
+            @Bean
+            public UserListVersion userListVersion() {
+                return new UserListVersion();
+            }
+
+            @Bean
+            public UserStatistics userStatistics() {
+                return new UserStatistics();
+            }
+
+            @Bean
+            public UserSearchIndex userSearchIndex() {
+                return new UserSearchIndex(100);
+            }
+
+            @Bean
+            public UserInsertCoalescerProperties userInsertCoalescerProperties() {
+                return new UserInsertCoalescerProperties(false, null, null, null, null);
+            }
         }
 
         @Test
@@ -170,7 +238,7 @@ class UseCasesConfigTest {
         ComponentScan.Filter[] excludeFilters = componentScan.excludeFilters();
         assertThat(excludeFilters).hasSize(1);
         assertThat(excludeFilters[0].type()).isEqualTo(FilterType.ASSIGNABLE_TYPE);
-        assertThat(excludeFilters[0].classes()).contains(UserUseCase.class);
+        assertThat(excludeFilters[0].classes()).contains(UserUseCase.class, UserBatchUseCase.class);
     }
 
     /**
@@ -179,7 +247,7 @@ class UseCasesConfigTest {
     @Test
     void userUseCase_WithNullRepository_ThrowsException() {
         // Given
-        UseCasesConfig configWithNullRepo = new UseCasesConfig(null, logger, transactionalOperator);
+        UseCasesConfig configWithNullRepo = new UseCasesConfig(null, logger, transactionalOperator, registrationProperties, userKeysBloomFilter, userCache, userListVersion, userStatistics, userSearchIndex, insertCoalescerProperties);
 
         // When & Then
         try {
@@ -194,7 +262,7 @@ class UseCasesConfigTest {
     @Test
     void userUseCase_WithNullLogger_ThrowsException() {
         // Given
-        UseCasesConfig configWithNullLogger = new UseCasesConfig(userRepositoryPort, null, transactionalOperator);
+        UseCasesConfig configWithNullLogger = new UseCasesConfig(userRepositoryPort, null, transactionalOperator, registrationProperties, userKeysBloomFilter, userCache, userListVersion, userStatistics, userSearchIndex, insertCoalescerProperties);
 
         // When & Then
         try {
@@ -208,7 +276,7 @@ class UseCasesConfigTest {
     @Test
     void userUseCase_WithNullTransactionalOperator_ThrowsException() {
         // Given
-        UseCasesConfig configWithNullTx = new UseCasesConfig(userRepositoryPort, logger, null);
+        UseCasesConfig configWithNullTx = new UseCasesConfig(userRepositoryPort, logger, null, registrationProperties, userKeysBloomFilter, userCache, userListVersion, userStatistics, userSearchIndex, insertCoalescerProperties);
 
         // When & Then
         try {
@@ -0,0 +1,173 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.bloom.UserKeysBloomFilter;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilterUserRepositoryPortTest {
+
+    @Mock
+    private IUserRepositoryPort delegate;
+
+    private UserKeysBloomFilter filter;
+    private BloomFilterUserRepositoryPort repositoryPort;
+    private User registered;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UserKeysBloomFilter(1_000, 0.001);
+        repositoryPort = new BloomFilterUserRepositoryPort(delegate, filter);
+        registered = new User().setEmail("Known@Example.com").setIdNumber("111");
+        filter.add(registered);
+    }
+
+    @Test
+    void existsByEmail_WhenFilterNotReady_ShouldAskRepository() {
+        when(delegate.existsByEmail("new@example.com")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(repositoryPort.existsByEmail("new@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(delegate).existsByEmail("new@example.com");
+    }
+
+    @Test
+    void existsByEmail_WhenDefinitelyAbsent_ShouldNotReachRepository() {
+        filter.markReady();
+
+        StepVerifier.create(repositoryPort.existsByEmail("new@example.com"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(delegate, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void findByIdNumber_WhenUserIsUnknownToFilter_ShouldStillReadRepository() {
+        filter.markReady();
+        User registeredElsewhere = new User().setEmail("other@example.com").setIdNumber("222");
+        when(delegate.findByIdNumber("222")).thenReturn(Mono.just(registeredElsewhere));
+
+        StepVerifier.create(repositoryPort.findByIdNumber("222"))
+                .expectNext(registeredElsewhere)
+                .verifyComplete();
+    }
+
+    @Test
+    void existsByEmail_WhenMaybePresent_ShouldAskRepositoryIgnoringCase() {
+        filter.markReady();
+        when(delegate.existsByEmail("known@example.com")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(repositoryPort.existsByEmail("known@example.com"))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(filter.falsePositiveRate()).isZero();
+    }
+
+    @Test
+    void existsByIdNumber_WhenRepositoryDeniesMaybePresentKey_ShouldRecordFalsePositive() {
+        filter.markReady();
+        when(delegate.existsByIdNumber("111")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(repositoryPort.existsByIdNumber("111"))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(filter.falsePositiveRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findConflicts_WhenBothKeysDefinitelyAbsent_ShouldReturnNoConflicts() {
+        filter.markReady();
+        User candidate = new User().setEmail("new@example.com").setIdNumber("222");
+
+        StepVerifier.create(repositoryPort.findConflicts(candidate))
+                .expectNextMatches(conflicts -> !conflicts.hasAny())
+                .verifyComplete();
+
+        verify(delegate, never()).findConflicts(any());
+    }
+
+    @Test
+    void findConflicts_WhenOneKeyMaybePresent_ShouldAskRepository() {
+        filter.markReady();
+        User candidate = new User().setEmail("new@example.com").setIdNumber("111");
+        when(delegate.findConflicts(candidate)).thenReturn(Mono.just(new UserConflicts(false, false, true)));
+
+        StepVerifier.create(repositoryPort.findConflicts(candidate))
+                .expectNextMatches(UserConflicts::isIdNumberTaken)
+                .verifyComplete();
+    }
+
+    @Test
+    void saveUser_ShouldAddKeysToFilter() {
+        filter.markReady();
+        User newUser = new User().setEmail("saved@example.com").setIdNumber("333");
+        when(delegate.saveUser(newUser)).thenReturn(Mono.just(newUser));
+
+        StepVerifier.create(repositoryPort.saveUser(newUser))
+                .expectNext(newUser)
+                .verifyComplete();
+
+        assertThat(filter.mightContainEmail("saved@example.com")).isTrue();
+        assertThat(filter.mightContainIdNumber("333")).isTrue();
+    }
+
+    @Test
+    void findByEmailsOrIdNumbers_ShouldOnlyQueryMaybePresentKeys() {
+        filter.markReady();
+        when(delegate.findByEmailsOrIdNumbers(List.of("known@example.com"), List.of()))
+                .thenReturn(Flux.just(registered));
+
+        StepVerifier.create(repositoryPort.findByEmailsOrIdNumbers(
+                        List.of("known@example.com", "new@example.com"), List.of("999")))
+                .expectNext(registered)
+                .verifyComplete();
+    }
+
+    @Test
+    void findByEmailsOrIdNumbers_WhenAllKeysAbsent_ShouldNotReachRepository() {
+        filter.markReady();
+
+        StepVerifier.create(repositoryPort.findByEmailsOrIdNumbers(List.of("new@example.com"), List.of("999")))
+                .verifyComplete();
+
+        verify(delegate, never()).findByEmailsOrIdNumbers(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void saveAllUsers_ShouldAddSavedUsersToFilter() {
+        filter.markReady();
+        User created = new User().setEmail("batch@example.com").setIdNumber("222");
+        when(delegate.saveAllUsers(any())).thenReturn(Flux.just(created));
+
+        StepVerifier.create(repositoryPort.saveAllUsers(Flux.just(created)))
+                .expectNext(created)
+                .verifyComplete();
+
+        assertThat(filter.mightContainEmail("batch@example.com")).isTrue();
+        assertThat(filter.mightContainIdNumber("222")).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.cache.UserCache;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryPortTest {
+
+    @Mock
+    private IUserRepositoryPort delegate;
+
+    private final TransactionalOperator transactionalOperator =
+            TransactionalOperator.create(new InMemoryReactiveTransactionManager());
+    private CachingUserRepositoryPort repositoryPort;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repositoryPort = new CachingUserRepositoryPort(delegate, new UserCache(100, Duration.ofMinutes(1)));
+        user = new User().setIdUser(1L).setIdNumber("ABC123").setEmail("user@example.com");
+    }
+
+    @Test
+    void findByIdUser_ShouldLoadOnceAndServeFromCache() {
+        when(delegate.findByIdUser(1L)).thenReturn(Mono.just(user));
+
+        StepVerifier.create(repositoryPort.findByIdUser(1L)).expectNext(user).verifyComplete();
+        StepVerifier.create(repositoryPort.findByIdUser(1L)).expectNext(user).verifyComplete();
+
+        verify(delegate, times(1)).findByIdUser(1L);
+    }
+
+    @Test
+    void findByIdUser_ConcurrentMisses_ShouldShareOneLoad() {
+        Sinks.One<User> load = Sinks.one();
+        when(delegate.findByIdUser(1L)).thenReturn(load.asMono());
+
+        Mono<User> first = repositoryPort.findByIdUser(1L).cache();
+        Mono<User> second = repositoryPort.findByIdUser(1L).cache();
+        first.subscribe();
+        second.subscribe();
+        load.tryEmitValue(user);
+
+        StepVerifier.create(first).expectNext(user).verifyComplete();
+        StepVerifier.create(second).expectNext(user).verifyComplete();
+        verify(delegate, times(1)).findByIdUser(1L);
+    }
+
+    @Test
+    void findByIdNumber_WhenAbsent_ShouldNotCacheTheMiss() {
+        when(delegate.findByIdNumber("ABC123")).thenReturn(Mono.empty());
+
+        StepVerifier.create(repositoryPort.findByIdNumber("ABC123")).verifyComplete();
+        StepVerifier.create(repositoryPort.findByIdNumber("ABC123")).verifyComplete();
+
+        verify(delegate, times(2)).findByIdNumber("ABC123");
+    }
+
+    @Test
+    void saveUser_ShouldRefreshCachedEntries() {
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(user));
+
+        StepVerifier.create(repositoryPort.saveUser(user)).expectNext(user).verifyComplete();
+
+        StepVerifier.create(repositoryPort.findByIdNumber("abc123")).expectNext(user).verifyComplete();
+        StepVerifier.create(repositoryPort.findByIdUser(1L)).expectNext(user).verifyComplete();
+        verify(delegate, never()).findByIdNumber(any());
+        verify(delegate, never()).findByIdUser(any());
+    }
+
+    @Test
+    void saveUser_InsideTransaction_ShouldCacheOnlyAfterCommit() {
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(user));
+        when(delegate.findByIdUser(1L)).thenReturn(Mono.empty());
+        AtomicReference<User> readBeforeCommit = new AtomicReference<>();
+
+        Mono<User> save = repositoryPort.saveUser(user)
+                .flatMap(saved -> repositoryPort.findByIdUser(1L).doOnNext(readBeforeCommit::set).thenReturn(saved));
+        StepVerifier.create(transactionalOperator.transactional(save)).expectNext(user).verifyComplete();
+
+        assertThat(readBeforeCommit.get()).isNull();
+        StepVerifier.create(repositoryPort.findByIdNumber("ABC123")).expectNext(user).verifyComplete();
+        verify(delegate, never()).findByIdNumber(any());
+    }
+
+    @Test
+    void saveUser_WhenTransactionRollsBack_ShouldNotCache() {
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(user));
+        when(delegate.findByIdNumber("ABC123")).thenReturn(Mono.empty());
+
+        Mono<User> save = repositoryPort.saveUser(user)
+                .then(Mono.error(new IllegalStateException("later step failed")));
+        StepVerifier.create(transactionalOperator.transactional(save))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(repositoryPort.findByIdNumber("ABC123")).verifyComplete();
+        verify(delegate, times(1)).findByIdNumber("ABC123");
+    }
+}
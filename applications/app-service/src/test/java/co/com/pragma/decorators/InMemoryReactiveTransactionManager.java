@@ -0,0 +1,77 @@
+package co.com.pragma.decorators;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transaction manager without a resource behind it: runs the real begin / commit / rollback lifecycle, including
+ * transaction synchronizations, and counts how each transaction ended. Optionally every transaction holds one of
+ * a fixed number of "connections", like a pooled R2DBC transaction manager; a begin that cannot get one within
+ * the acquire timeout fails.
+ */
+class InMemoryReactiveTransactionManager extends AbstractReactiveTransactionManager {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(2);
+
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private final Semaphore connections;
+
+    InMemoryReactiveTransactionManager() {
+        this(Integer.MAX_VALUE);
+    }
+
+    InMemoryReactiveTransactionManager(int connections) {
+        this.connections = new Semaphore(connections);
+    }
+
+    int commits() {
+        return commits.get();
+    }
+
+    int rollbacks() {
+        return rollbacks.get();
+    }
+
+    @Override
+    protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+        return new Object();
+    }
+
+    @Override
+    protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                 TransactionDefinition definition) {
+        return Mono.fromCallable(() -> connections.tryAcquire(ACQUIRE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(acquired -> acquired
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalStateException("No connection available within " + ACQUIRE_TIMEOUT)));
+    }
+
+    @Override
+    protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                  GenericReactiveTransaction status) {
+        return Mono.fromRunnable(commits::incrementAndGet);
+    }
+
+    @Override
+    protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                    GenericReactiveTransaction status) {
+        return Mono.fromRunnable(rollbacks::incrementAndGet);
+    }
+
+    @Override
+    protected Mono<Void> doCleanupAfterCompletion(TransactionSynchronizationManager synchronizationManager,
+                                                  Object transaction) {
+        return Mono.fromRunnable(connections::release);
+    }
+}
@@ -0,0 +1,94 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.decorators.search.UserSearchIndex;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexUserRepositoryPortTest {
+
+    @Mock
+    private IUserRepositoryPort delegate;
+
+    private final TransactionalOperator transactionalOperator =
+            TransactionalOperator.create(new InMemoryReactiveTransactionManager());
+    private UserSearchIndex index;
+    private SearchIndexUserRepositoryPort repositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(100);
+        repositoryPort = new SearchIndexUserRepositoryPort(delegate, index);
+    }
+
+    @Test
+    void searchUsers_WhenIndexNotReady_ShouldAskRepository() {
+        User found = new User().setIdUser(1L).setName("Juan");
+        when(delegate.searchUsers("juan", 10)).thenReturn(Flux.just(found));
+
+        StepVerifier.create(repositoryPort.searchUsers("juan", 10))
+                .expectNext(found)
+                .verifyComplete();
+    }
+
+    @Test
+    void searchUsers_WhenIndexReady_ShouldNotReachRepository() {
+        index.add(new User().setIdUser(1L).setName("Juan").setEmail("juan@example.com"));
+        index.markReady();
+
+        StepVerifier.create(repositoryPort.searchUsers("jua", 10))
+                .expectNextMatches(user -> user.getIdUser() == 1L)
+                .verifyComplete();
+
+        verify(delegate, never()).searchUsers(anyString(), anyInt());
+    }
+
+    @Test
+    void saveUser_ShouldAddSavedUserToIndex() {
+        User saved = new User().setIdUser(7L).setName("Lucia").setEmail("lucia@example.com");
+        when(delegate.saveUser(saved)).thenReturn(Mono.just(saved));
+        index.markReady();
+
+        StepVerifier.create(repositoryPort.saveUser(saved))
+                .expectNext(saved)
+                .verifyComplete();
+
+        assertThat(index.search("luc", 10)).extracting(User::getIdUser).containsExactly(7L);
+    }
+
+    @Test
+    void saveUser_WhenTransactionRollsBack_ShouldNotIndexUser() {
+        User saved = new User().setIdUser(7L).setName("Lucia").setEmail("lucia@example.com");
+        when(delegate.saveUser(saved)).thenReturn(Mono.just(saved));
+        index.markReady();
+        AtomicInteger indexedBeforeCommit = new AtomicInteger(-1);
+
+        Mono<User> save = repositoryPort.saveUser(saved)
+                .doOnNext(user -> indexedBeforeCommit.set(index.size()))
+                .then(Mono.error(new IllegalStateException("later step failed")));
+        StepVerifier.create(transactionalOperator.transactional(save))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(indexedBeforeCommit.get()).isZero();
+        assertThat(index.search("luc", 10)).isEmpty();
+    }
+}
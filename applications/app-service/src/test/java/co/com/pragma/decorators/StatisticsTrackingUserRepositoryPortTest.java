@@ -0,0 +1,121 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsTrackingUserRepositoryPortTest {
+
+    @Mock
+    private IUserRepositoryPort delegate;
+
+    private final InMemoryReactiveTransactionManager transactionManager = new InMemoryReactiveTransactionManager();
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+    private UserStatistics statistics;
+    private StatisticsTrackingUserRepositoryPort repositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new UserStatistics();
+        statistics.refresh(UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()));
+        repositoryPort = new StatisticsTrackingUserRepositoryPort(delegate, statistics);
+    }
+
+    @Test
+    void saveUser_WithoutTransaction_ShouldApplyRightAway() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenAnswer(invocation -> Mono.just(saved(1L)));
+
+        // When
+        StepVerifier.create(repositoryPort.saveUser(new User())).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertThat(statistics.current().getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void saveUser_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenAnswer(invocation -> Mono.just(saved(1L)));
+        AtomicLong totalBeforeCommit = new AtomicLong(-1);
+
+        // When
+        Mono<User> save = repositoryPort.saveUser(new User())
+                .doOnNext(user -> totalBeforeCommit.set(statistics.current().getTotal()));
+        StepVerifier.create(transactionalOperator.transactional(save)).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertThat(totalBeforeCommit.get()).isZero();
+        assertThat(statistics.current().getTotal()).isEqualTo(1);
+        assertThat(transactionManager.commits()).isEqualTo(1);
+    }
+
+    @Test
+    void saveUser_WhenTransactionRollsBack_ShouldNotApply() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenAnswer(invocation -> Mono.just(saved(1L)));
+
+        // When
+        Mono<User> save = repositoryPort.saveUser(new User())
+                .then(Mono.error(new IllegalStateException("later step failed")));
+        StepVerifier.create(transactionalOperator.transactional(save))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(statistics.current().getTotal()).isZero();
+        assertThat(transactionManager.rollbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAllUsers_InsideTransaction_ShouldApplyEveryUserAfterCommit() {
+        // Given
+        when(delegate.saveAllUsers(any())).thenReturn(Flux.just(saved(1L), saved(2L), saved(3L)));
+
+        // When
+        StepVerifier.create(transactionalOperator.transactional(repositoryPort.saveAllUsers(Flux.empty())))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        // Then
+        assertThat(statistics.current().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void saveAllUsers_WhenTransactionRollsBack_ShouldNotApply() {
+        // Given
+        when(delegate.saveAllUsers(any())).thenReturn(Flux.just(saved(1L), saved(2L))
+                .concatWith(Mono.error(new IllegalStateException("duplicate key"))));
+
+        // When
+        StepVerifier.create(transactionalOperator.transactional(repositoryPort.saveAllUsers(Flux.empty())))
+                .expectNextCount(2)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(statistics.current().getTotal()).isZero();
+    }
+
+    private static User saved(Long idUser) {
+        return new User().setIdUser(idUser).setRoleId((byte) 1).setBaseSalary(BigDecimal.valueOf(2_000_000));
+    }
+}
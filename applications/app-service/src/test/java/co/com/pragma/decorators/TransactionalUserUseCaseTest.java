@@ -0,0 +1,114 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.r2dbc.coalescer.UserInsertCoalescer;
+import co.com.pragma.r2dbc.coalescer.UserRowWriter;
+import co.com.pragma.usecase.user.IUserUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionalUserUseCaseTest {
+
+    private static final int POOL_SIZE = 3;
+    private static final int CONCURRENT_SAVES = 20;
+
+    @Mock
+    private IUserUseCase delegate;
+
+    private final InMemoryReactiveTransactionManager transactionManager =
+            new InMemoryReactiveTransactionManager(POOL_SIZE);
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+    private final TransactionalRowWriter writer = new TransactionalRowWriter();
+    private UserInsertCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new UserInsertCoalescer(writer, CONCURRENT_SAVES, Duration.ofMillis(50), 1_000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    void save_WithCoalescedInserts_ShouldNotHoldConnectionWhileBatchWaitsForOne() {
+        // Given
+        when(delegate.save(any(User.class))).thenAnswer(invocation -> coalescer.insert(invocation.getArgument(0)));
+        TransactionalUserUseCase useCase = new TransactionalUserUseCase(delegate, transactionalOperator, false);
+
+        // When
+        Flux<User> saves = Flux.merge(IntStream.range(0, CONCURRENT_SAVES)
+                .mapToObj(i -> useCase.save(new User().setIdNumber(String.valueOf(i))))
+                .toList());
+
+        // Then
+        StepVerifier.create(saves)
+                .expectNextCount(CONCURRENT_SAVES)
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+        assertThat(writer.batchedUsers.get()).isEqualTo(CONCURRENT_SAVES);
+        assertThat(writer.individualInserts.get()).isZero();
+        assertThat(transactionManager.commits()).isPositive();
+    }
+
+    @Test
+    void save_WhenTransactional_ShouldWrapTheSaveInATransaction() {
+        // Given
+        when(delegate.save(any(User.class))).thenReturn(Mono.just(new User().setIdUser(1L)));
+        TransactionalUserUseCase useCase = new TransactionalUserUseCase(delegate, transactionalOperator);
+
+        // When & Then
+        StepVerifier.create(useCase.save(new User())).expectNextCount(1).verifyComplete();
+        assertThat(transactionManager.commits()).isEqualTo(1);
+    }
+
+    /**
+     * Writes batches in a transaction of the shared manager, like DatabaseClientUserRowWriter does.
+     */
+    private class TransactionalRowWriter implements UserRowWriter {
+
+        private final AtomicLong ids = new AtomicLong();
+        private final AtomicInteger batchedUsers = new AtomicInteger();
+        private final AtomicInteger individualInserts = new AtomicInteger();
+
+        @Override
+        public Mono<List<User>> insertAll(List<User> users) {
+            return transactionalOperator.transactional(Mono.fromSupplier(() -> {
+                batchedUsers.addAndGet(users.size());
+                return users.stream().map(this::withId).toList();
+            }));
+        }
+
+        @Override
+        public Mono<User> insert(User user) {
+            return Mono.fromSupplier(() -> {
+                individualInserts.incrementAndGet();
+                return withId(user);
+            });
+        }
+
+        private User withId(User user) {
+            return new User().setIdUser(ids.incrementAndGet()).setIdNumber(user.getIdNumber());
+        }
+    }
+}
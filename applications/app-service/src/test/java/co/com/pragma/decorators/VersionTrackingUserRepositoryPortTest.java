@@ -0,0 +1,119 @@
+package co.com.pragma.decorators;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserTableVersion;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.usecase.user.UserListVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VersionTrackingUserRepositoryPortTest {
+
+    private static final UserTableVersion INITIAL = new UserTableVersion(10, 10);
+
+    @Mock
+    private IUserRepositoryPort delegate;
+
+    private final InMemoryReactiveTransactionManager transactionManager = new InMemoryReactiveTransactionManager();
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+    private UserListVersion listVersion;
+    private VersionTrackingUserRepositoryPort repositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        listVersion = new UserListVersion();
+        listVersion.refresh(INITIAL);
+        repositoryPort = new VersionTrackingUserRepositoryPort(delegate, listVersion);
+    }
+
+    @Test
+    void saveUser_WithoutTransaction_ShouldMoveVersionForward() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(new User().setIdUser(11L)));
+
+        // When
+        StepVerifier.create(repositoryPort.saveUser(new User())).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertThat(listVersion.current().getMaxIdUser()).isEqualTo(11);
+        assertThat(listVersion.current().getCount()).isEqualTo(11);
+    }
+
+    @Test
+    void saveUser_InsideTransaction_ShouldMoveVersionOnlyAfterCommit() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(new User().setIdUser(11L)));
+        AtomicReference<UserTableVersion> beforeCommit = new AtomicReference<>();
+
+        // When
+        Mono<User> save = repositoryPort.saveUser(new User())
+                .doOnNext(user -> beforeCommit.set(listVersion.current()));
+        StepVerifier.create(transactionalOperator.transactional(save)).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertThat(beforeCommit.get()).isSameAs(INITIAL);
+        assertThat(listVersion.current().getMaxIdUser()).isEqualTo(11);
+    }
+
+    @Test
+    void saveUser_WhenTransactionRollsBack_ShouldKeepVersion() {
+        // Given
+        when(delegate.saveUser(any(User.class))).thenReturn(Mono.just(new User().setIdUser(11L)));
+
+        // When
+        Mono<User> save = repositoryPort.saveUser(new User())
+                .then(Mono.error(new IllegalStateException("later step failed")));
+        StepVerifier.create(transactionalOperator.transactional(save))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(listVersion.current()).isSameAs(INITIAL);
+        assertThat(transactionManager.rollbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void saveAllUsers_WhenChunkRollsBack_ShouldKeepVersion() {
+        // Given
+        when(delegate.saveAllUsers(any())).thenReturn(Flux.just(new User().setIdUser(11L))
+                .concatWith(Mono.error(new IllegalStateException("duplicate key"))));
+
+        // When
+        StepVerifier.create(transactionalOperator.transactional(repositoryPort.saveAllUsers(Flux.empty())))
+                .expectNextCount(1)
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(listVersion.current()).isSameAs(INITIAL);
+    }
+
+    @Test
+    void saveAllUsers_InsideTransaction_ShouldMoveVersionAfterCommit() {
+        // Given
+        when(delegate.saveAllUsers(any())).thenReturn(Flux.just(new User().setIdUser(11L), new User().setIdUser(12L)));
+
+        // When
+        StepVerifier.create(transactionalOperator.transactional(repositoryPort.saveAllUsers(Flux.empty())))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // Then
+        assertThat(listVersion.current().getMaxIdUser()).isEqualTo(12);
+        assertThat(listVersion.current().getCount()).isEqualTo(12);
+    }
+}
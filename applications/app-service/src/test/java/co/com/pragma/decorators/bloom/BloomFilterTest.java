@@ -0,0 +1,58 @@
+package co.com.pragma.decorators.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_AfterPut_ShouldAlwaysReturnTrue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    void mightContain_ForAbsentKeys_ShouldStayNearConfiguredFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("present-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void fillRatio_ShouldGrowWithInsertions() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertThat(filter.fillRatio()).isZero();
+
+        filter.put("a");
+
+        assertThat(filter.fillRatio()).isGreaterThan(0.0).isLessThan(1.0);
+        assertThat(filter.bitSize() % 64).isZero();
+        assertThat(filter.hashFunctions()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void constructor_WithInvalidArguments_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
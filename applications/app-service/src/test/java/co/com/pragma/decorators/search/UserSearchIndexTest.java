@@ -0,0 +1,110 @@
+package co.com.pragma.decorators.search;
+
+import co.com.pragma.model.user.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(100);
+        index.add(user(1L, "Juan", "Pérez", "jperez@pragma.com.co"));
+        index.add(user(2L, "Juana", "Gómez", "juana.gomez@pragma.com.co"));
+        index.add(user(3L, "Pedro", "Juanes", "pedro@example.com"));
+        index.add(user(4L, "María José", "Ruiz", "mjruiz@juanito.org"));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesIgnoringCaseAndAccents() {
+        List<User> result = index.search("PER", 10);
+
+        assertThat(result).extracting(User::getIdUser).containsExactly(1L);
+    }
+
+    @Test
+    void search_ShouldRankExactNameMatchesAboveNamePrefixesAndEmailMatches() {
+        List<User> result = index.search("juan", 10);
+
+        // exact name, then name prefixes by idUser, then the email-only match
+        assertThat(result).extracting(User::getIdUser).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void search_WithSeveralTerms_ShouldRequireEveryTerm() {
+        List<User> result = index.search("juan  gom", 10);
+
+        assertThat(result).extracting(User::getIdUser).containsExactly(2L);
+    }
+
+    @Test
+    void search_ShouldMatchEmailFromItsStart() {
+        assertThat(index.search("juana.g", 10)).extracting(User::getIdUser).containsExactly(2L);
+        assertThat(index.search("pragma", 10)).extracting(User::getIdUser).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_ShouldCapResultsAndLoadOnlyIndexedFields() {
+        List<User> result = index.search("j", 2);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getBaseSalary()).isNull();
+        assertThat(result.get(0).getEmail()).isNotNull();
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNothing() {
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldNotRankMoreThanMaxCandidates() {
+        UserSearchIndex small = new UserSearchIndex(1);
+        small.add(user(1L, "Ana", "Uno", "ana1@example.com"));
+        small.add(user(2L, "Ana", "Dos", "ana2@example.com"));
+
+        assertThat(small.search("ana", 10)).hasSize(1);
+    }
+
+    @Test
+    void add_ShouldTrackHighestIdUser() {
+        index.add(user(10L, "Luis", "Díaz", "ldiaz@example.com"));
+
+        assertThat(index.maxIdUser()).isEqualTo(10L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void remove_ShouldDropUserAndItsTokens() {
+        index.remove(2L);
+
+        assertThat(index.search("juan", 10)).extracting(User::getIdUser).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("gomez", 10)).isEmpty();
+        assertThat(index.idUsers()).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(index.maxIdUser()).isEqualTo(4L);
+    }
+
+    @Test
+    void constructor_WithoutCandidates_ShouldFail() {
+        assertThatThrownBy(() -> new UserSearchIndex(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static User user(Long idUser, String name, String lastName, String email) {
+        return new User()
+                .setIdUser(idUser)
+                .setName(name)
+                .setLastName(lastName)
+                .setEmail(email)
+                .setIdNumber(String.valueOf(1000 + idUser))
+                .setBaseSalary(BigDecimal.TEN);
+    }
+}
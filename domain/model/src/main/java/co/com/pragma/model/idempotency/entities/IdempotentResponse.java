@@ -0,0 +1,47 @@
+package co.com.pragma.model.idempotency.entities;
+
+/**
+ * Serialized outcome of a request sent with an Idempotency-Key, replayed for retries of the same key.
+ */
+public class IdempotentResponse {
+    private final String requestHash;
+    private final int statusCode;
+    private final String contentType;
+    private final String location;
+    private final byte[] body;
+
+    public IdempotentResponse(String requestHash, int statusCode, String contentType, byte[] body) {
+        this(requestHash, statusCode, contentType, null, body);
+    }
+
+    public IdempotentResponse(String requestHash, int statusCode, String contentType, String location, byte[] body) {
+        this.requestHash = requestHash;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.location = location;
+        this.body = body;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * The {@code Location} header of the response, e.g. where an accepted registration can be tracked.
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
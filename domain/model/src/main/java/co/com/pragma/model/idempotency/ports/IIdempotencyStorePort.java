@@ -0,0 +1,16 @@
+package co.com.pragma.model.idempotency.ports;
+
+import co.com.pragma.model.idempotency.entities.IdempotentResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface IIdempotencyStorePort {
+
+    /**
+     * @return the stored response of the key, or empty when it is unknown or expired.
+     */
+    Mono<IdempotentResponse> find(String key);
+
+    Mono<Void> save(String key, IdempotentResponse response, Duration ttl);
+}
@@ -0,0 +1,62 @@
+package co.com.pragma.model.user.entities;
+
+public class UserBatchResult {
+
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID,
+        FAILED
+    }
+
+    private final User user;
+    private final Status status;
+    private final String message;
+    private final Long line;
+
+    public UserBatchResult(User user, Status status, String message) {
+        this(user, status, message, null);
+    }
+
+    public UserBatchResult(User user, Status status, String message, Long line) {
+        this.user = user;
+        this.status = status;
+        this.message = message;
+        this.line = line;
+    }
+
+    public static UserBatchResult created(User user) {
+        return new UserBatchResult(user, Status.CREATED, null);
+    }
+
+    public static UserBatchResult conflict(User user, String message) {
+        return new UserBatchResult(user, Status.CONFLICT, message);
+    }
+
+    public static UserBatchResult failed(User user, String message) {
+        return new UserBatchResult(user, Status.FAILED, message);
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the line of the record in the submitted batch, or {@code null} when the caller did not number them.
+     */
+    public Long getLine() {
+        return line;
+    }
+
+    public UserBatchResult withLine(Long line) {
+        return new UserBatchResult(user, status, message, line);
+    }
+}
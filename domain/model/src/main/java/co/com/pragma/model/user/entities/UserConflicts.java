@@ -0,0 +1,35 @@
+package co.com.pragma.model.user.entities;
+
+public class UserConflicts {
+    private static final UserConflicts NONE = new UserConflicts(false, false, false);
+
+    private final boolean idUserTaken;
+    private final boolean emailTaken;
+    private final boolean idNumberTaken;
+
+    public UserConflicts(boolean idUserTaken, boolean emailTaken, boolean idNumberTaken) {
+        this.idUserTaken = idUserTaken;
+        this.emailTaken = emailTaken;
+        this.idNumberTaken = idNumberTaken;
+    }
+
+    public static UserConflicts none() {
+        return NONE;
+    }
+
+    public boolean isIdUserTaken() {
+        return idUserTaken;
+    }
+
+    public boolean isEmailTaken() {
+        return emailTaken;
+    }
+
+    public boolean isIdNumberTaken() {
+        return idNumberTaken;
+    }
+
+    public boolean hasAny() {
+        return idUserTaken || emailTaken || idNumberTaken;
+    }
+}
@@ -0,0 +1,34 @@
+package co.com.pragma.model.user.entities;
+
+import java.util.Locale;
+
+/**
+ * Attributes of a {@link User} that can be requested individually when listing users.
+ */
+public enum UserField {
+    ID_USER,
+    NAME,
+    LAST_NAME,
+    EMAIL,
+    ID_NUMBER,
+    BIRTH_DATE,
+    ADDRESS,
+    PHONE,
+    ROLE_ID,
+    BASE_SALARY;
+
+    /**
+     * Resolves a field from its snake_case ({@code id_number}) or camelCase ({@code idNumber}) name.
+     *
+     * @throws IllegalArgumentException when no field has that name
+     */
+    public static UserField fromName(String name) {
+        String normalized = name.trim().replace("_", "").toUpperCase(Locale.ROOT);
+        for (UserField field : values()) {
+            if (field.name().replace("_", "").equals(normalized)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown user field: " + name);
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.pragma.model.user.entities;
+
+import java.util.List;
+
+/**
+ * One page of users ordered by idUser. {@code nextAfterIdUser} is the keyset cursor of the following page,
+ * or {@code null} when this is the last one.
+ */
+public class UserPage {
+    private final List<User> users;
+    private final Long nextAfterIdUser;
+
+    public UserPage(List<User> users, Long nextAfterIdUser) {
+        this.users = users;
+        this.nextAfterIdUser = nextAfterIdUser;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public Long getNextAfterIdUser() {
+        return nextAfterIdUser;
+    }
+
+    public boolean hasNext() {
+        return nextAfterIdUser != null;
+    }
+}
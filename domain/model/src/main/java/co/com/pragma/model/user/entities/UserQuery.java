@@ -0,0 +1,142 @@
+package co.com.pragma.model.user.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Listing criteria: the fields to load (all of them when empty), optional filters and an optional keyset
+ * window over idUser. Instances are immutable; the {@code with*} methods return copies.
+ */
+public class UserQuery {
+    private static final UserQuery ALL = new UserQuery();
+
+    private Set<UserField> fields = Set.of();
+    private Long afterIdUser;
+    private Integer limit;
+    private Byte roleId;
+    private BigDecimal baseSalaryMin;
+    private BigDecimal baseSalaryMax;
+    private LocalDate birthDateFrom;
+    private LocalDate birthDateTo;
+    private String emailDomain;
+
+    private UserQuery() {
+    }
+
+    private UserQuery(UserQuery other) {
+        this.fields = other.fields;
+        this.afterIdUser = other.afterIdUser;
+        this.limit = other.limit;
+        this.roleId = other.roleId;
+        this.baseSalaryMin = other.baseSalaryMin;
+        this.baseSalaryMax = other.baseSalaryMax;
+        this.birthDateFrom = other.birthDateFrom;
+        this.birthDateTo = other.birthDateTo;
+        this.emailDomain = other.emailDomain;
+    }
+
+    public static UserQuery all() {
+        return ALL;
+    }
+
+    public UserQuery withFields(Set<UserField> fields) {
+        UserQuery copy = new UserQuery(this);
+        copy.fields = fields.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(fields));
+        return copy;
+    }
+
+    public UserQuery withAfterIdUser(Long afterIdUser) {
+        UserQuery copy = new UserQuery(this);
+        copy.afterIdUser = afterIdUser;
+        return copy;
+    }
+
+    public UserQuery withLimit(Integer limit) {
+        UserQuery copy = new UserQuery(this);
+        copy.limit = limit;
+        return copy;
+    }
+
+    public UserQuery withRoleId(Byte roleId) {
+        UserQuery copy = new UserQuery(this);
+        copy.roleId = roleId;
+        return copy;
+    }
+
+    /**
+     * Inclusive salary band; either bound may be {@code null}.
+     */
+    public UserQuery withBaseSalary(BigDecimal min, BigDecimal max) {
+        UserQuery copy = new UserQuery(this);
+        copy.baseSalaryMin = min;
+        copy.baseSalaryMax = max;
+        return copy;
+    }
+
+    /**
+     * Inclusive birth date range; either bound may be {@code null}.
+     */
+    public UserQuery withBirthDate(LocalDate from, LocalDate to) {
+        UserQuery copy = new UserQuery(this);
+        copy.birthDateFrom = from;
+        copy.birthDateTo = to;
+        return copy;
+    }
+
+    public UserQuery withEmailDomain(String emailDomain) {
+        UserQuery copy = new UserQuery(this);
+        copy.emailDomain = emailDomain;
+        return copy;
+    }
+
+    public Set<UserField> getFields() {
+        return fields;
+    }
+
+    public Long getAfterIdUser() {
+        return afterIdUser;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public Byte getRoleId() {
+        return roleId;
+    }
+
+    public BigDecimal getBaseSalaryMin() {
+        return baseSalaryMin;
+    }
+
+    public BigDecimal getBaseSalaryMax() {
+        return baseSalaryMax;
+    }
+
+    public LocalDate getBirthDateFrom() {
+        return birthDateFrom;
+    }
+
+    public LocalDate getBirthDateTo() {
+        return birthDateTo;
+    }
+
+    public String getEmailDomain() {
+        return emailDomain;
+    }
+
+    /**
+     * @return {@code true} when only some of the fields were requested.
+     */
+    public boolean isProjected() {
+        return !fields.isEmpty();
+    }
+
+    public boolean hasFilters() {
+        return roleId != null || baseSalaryMin != null || baseSalaryMax != null
+                || birthDateFrom != null || birthDateTo != null || emailDomain != null;
+    }
+}
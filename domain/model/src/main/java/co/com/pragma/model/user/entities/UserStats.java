@@ -0,0 +1,125 @@
+package co.com.pragma.model.user.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates of the user table: total, users per role, salary min/max/sum and a histogram of salaries in
+ * buckets of fixed width, the last one open-ended. Immutable; every change returns a new snapshot, whose cost
+ * depends only on the number of roles and buckets, never on the number of users.
+ */
+public class UserStats {
+    private final BigDecimal salaryBucketWidth;
+    private final long total;
+    private final Map<Byte, Long> usersByRole;
+    private final BigDecimal salaryMin;
+    private final BigDecimal salaryMax;
+    private final BigDecimal salarySum;
+    private final long[] salaryHistogram;
+
+    private UserStats(BigDecimal salaryBucketWidth, long total, Map<Byte, Long> usersByRole,
+                      BigDecimal salaryMin, BigDecimal salaryMax, BigDecimal salarySum, long[] salaryHistogram) {
+        this.salaryBucketWidth = salaryBucketWidth;
+        this.total = total;
+        this.usersByRole = usersByRole;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+        this.salarySum = salarySum;
+        this.salaryHistogram = salaryHistogram;
+    }
+
+    public static UserStats empty(BigDecimal salaryBucketWidth, int salaryBuckets) {
+        if (salaryBucketWidth == null || salaryBucketWidth.signum() <= 0) {
+            throw new IllegalArgumentException("salaryBucketWidth must be greater than 0");
+        }
+        if (salaryBuckets < 1) {
+            throw new IllegalArgumentException("salaryBuckets must be greater than 0");
+        }
+        return new UserStats(salaryBucketWidth, 0L, Collections.emptyMap(),
+                null, null, BigDecimal.ZERO, new long[salaryBuckets]);
+    }
+
+    /**
+     * @return the stats after one more user was inserted.
+     */
+    public UserStats withInserted(User user) {
+        BigDecimal salary = user.getBaseSalary();
+        return withGroup(user.getRoleId(), salary == null ? -1 : bucketOf(salary), 1L, salary, salary, salary);
+    }
+
+    /**
+     * Adds a group of {@code count} users sharing role and salary bucket, as returned by the aggregate query.
+     * A negative bucket or null salaries mean the group has no salary.
+     */
+    public UserStats withGroup(Byte roleId, int bucket, long count,
+                               BigDecimal groupSalaryMin, BigDecimal groupSalaryMax, BigDecimal groupSalarySum) {
+        Map<Byte, Long> roles = new TreeMap<>(usersByRole);
+        if (roleId != null) {
+            roles.merge(roleId, count, Long::sum);
+        }
+        long[] histogram = salaryHistogram;
+        if (bucket >= 0 && groupSalarySum != null) {
+            histogram = salaryHistogram.clone();
+            histogram[Math.min(bucket, histogram.length - 1)] += count;
+        }
+        return new UserStats(salaryBucketWidth, total + count, Collections.unmodifiableMap(roles),
+                min(salaryMin, groupSalaryMin), max(salaryMax, groupSalaryMax),
+                groupSalarySum == null ? salarySum : salarySum.add(groupSalarySum), histogram);
+    }
+
+    public int bucketOf(BigDecimal salary) {
+        long bucket = salary.divideToIntegralValue(salaryBucketWidth).longValue();
+        return (int) Math.max(0, Math.min(bucket, salaryHistogram.length - 1L));
+    }
+
+    public BigDecimal getSalaryBucketWidth() {
+        return salaryBucketWidth;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<Byte, Long> getUsersByRole() {
+        return usersByRole;
+    }
+
+    public BigDecimal getSalaryMin() {
+        return salaryMin;
+    }
+
+    public BigDecimal getSalaryMax() {
+        return salaryMax;
+    }
+
+    public BigDecimal getSalarySum() {
+        return salarySum;
+    }
+
+    /**
+     * @return the average salary rounded to cents, or {@code null} when there are no salaries.
+     */
+    public BigDecimal getSalaryAverage() {
+        long withSalary = Arrays.stream(salaryHistogram).sum();
+        return withSalary == 0 ? null : salarySum.divide(BigDecimal.valueOf(withSalary), 2, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @return the users per salary bucket; bucket {@code i} starts at {@code i * salaryBucketWidth}.
+     */
+    public long[] getSalaryHistogram() {
+        return salaryHistogram.clone();
+    }
+
+    private static BigDecimal min(BigDecimal current, BigDecimal candidate) {
+        return current == null || (candidate != null && candidate.compareTo(current) < 0) ? candidate : current;
+    }
+
+    private static BigDecimal max(BigDecimal current, BigDecimal candidate) {
+        return current == null || (candidate != null && candidate.compareTo(current) > 0) ? candidate : current;
+    }
+}
@@ -0,0 +1,43 @@
+package co.com.pragma.model.user.entities;
+
+/**
+ * Cheap fingerprint of the user table. Users are only ever inserted, so any change to the listing changes
+ * the row count, and the highest idUser guards against a count that repeats across restarts of the table.
+ */
+public class UserTableVersion {
+    private static final UserTableVersion EMPTY = new UserTableVersion(0L, 0L);
+
+    private final long maxIdUser;
+    private final long count;
+
+    public UserTableVersion(long maxIdUser, long count) {
+        this.maxIdUser = maxIdUser;
+        this.count = count;
+    }
+
+    public static UserTableVersion empty() {
+        return EMPTY;
+    }
+
+    public long getMaxIdUser() {
+        return maxIdUser;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the version after one more user with the given idUser was inserted.
+     */
+    public UserTableVersion withInserted(long idUser) {
+        return new UserTableVersion(Math.max(maxIdUser, idUser), count + 1);
+    }
+
+    /**
+     * Opaque token, equal for equal versions.
+     */
+    public String token() {
+        return maxIdUser + "-" + count;
+    }
+}
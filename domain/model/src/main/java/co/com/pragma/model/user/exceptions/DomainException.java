@@ -1,12 +1,18 @@
 package co.com.pragma.model.user.exceptions;
 
+/**
+ * A business outcome the caller is expected to handle (duplicate user, invalid input, missing user), not a
+ * defect. Domain exceptions are stackless and do not record suppressed exceptions: they travel as reactive
+ * error signals, where a stack trace says nothing useful and filling it in dominated the cost of a 409, and a
+ * constant one can be safely preallocated and shared.
+ */
 public class DomainException extends RuntimeException {
     protected DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     protected DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
 }
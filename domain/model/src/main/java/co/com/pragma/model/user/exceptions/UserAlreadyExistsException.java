@@ -2,7 +2,28 @@ package co.com.pragma.model.user.exceptions;
 
 public class UserAlreadyExistsException extends DomainException {
 
+    private static final UserAlreadyExistsException UNKNOWN_KEY = new UserAlreadyExistsException("User already exists");
+
     public UserAlreadyExistsException(String message) {
         super(message);
     }
+
+    public static UserAlreadyExistsException byIdUser(Long idUser) {
+        return new UserAlreadyExistsException("User with idUser " + idUser + " already exists");
+    }
+
+    public static UserAlreadyExistsException byEmail(String email) {
+        return new UserAlreadyExistsException("User with email " + email + " already exists");
+    }
+
+    public static UserAlreadyExistsException byIdNumber(String idNumber) {
+        return new UserAlreadyExistsException("User with idNumber " + idNumber + " already exists");
+    }
+
+    /**
+     * @return a shared instance, for a duplicate whose field is not known.
+     */
+    public static UserAlreadyExistsException unknownKey() {
+        return UNKNOWN_KEY;
+    }
 }
@@ -1,8 +1,30 @@
 package co.com.pragma.model.user.ports;
 
+import co.com.pragma.model.user.exceptions.DomainException;
+
 public interface ILoggerPort {
     void info(String traceId, String message, Object... args);
     void debug(String traceId, String message, Object... args);
     void warn(String traceId, String message, Object... args);
     void error(String traceId, String message, Throwable throwable, Object... args);
+
+    /**
+     * Whether {@link #debug} would log anything: lets a call site skip building (and boxing) the arguments of a
+     * debug call that would be discarded.
+     */
+    boolean isDebugEnabled();
+
+    /**
+     * Logs a failed operation: a {@link DomainException} is an expected outcome and goes to debug without a
+     * stack trace, the entry point reports it to the client; anything else goes to error with it.
+     */
+    default void failure(String traceId, String message, Throwable throwable) {
+        if (throwable instanceof DomainException) {
+            if (isDebugEnabled()) {
+                debug(traceId, message + ": {}", throwable.getMessage());
+            }
+        } else {
+            error(traceId, message, throwable);
+        }
+    }
 }
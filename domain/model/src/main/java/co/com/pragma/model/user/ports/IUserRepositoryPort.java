@@ -1,17 +1,62 @@
 package co.com.pragma.model.user.ports;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+
 public interface IUserRepositoryPort {
     Mono<User> saveUser(User user);
 
+    Flux<User> saveAllUsers(Flux<User> users);
+
+    Mono<User> findByIdUser(Long idUser);
+
+    Mono<User> findByIdNumber(String idNumber);
+
     Mono<Boolean> existsByIdUser(Long idUser);
 
     Mono<Boolean> existsByEmail(String email);
 
     Mono<Boolean> existsByIdNumber(String idNumber);
 
+    /**
+     * Resolves in a single round trip which of the unique keys of the given user
+     * (idUser, email, idNumber) are already registered.
+     */
+    Mono<UserConflicts> findConflicts(User user);
+
+    /**
+     * Returns the registered users whose email or idNumber is in the given collections.
+     */
+    Flux<User> findByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers);
+
     Flux<User> findAll();
+
+    /**
+     * Reads the highest idUser and the row count in one statement.
+     */
+    Mono<UserTableVersion> findTableVersion();
+
+    /**
+     * Returns the users matching the query ordered by idUser, loading only the requested fields.
+     */
+    Flux<User> findUsers(UserQuery query);
+
+    /**
+     * Computes the {@link UserStats} of the whole table in one aggregate query.
+     */
+    Mono<UserStats> findStats(BigDecimal salaryBucketWidth, int salaryBuckets);
+
+    /**
+     * Returns up to {@code limit} users whose name, last name or email starts with the terms of the text,
+     * best match first, loading only idUser, name, lastName, email and idNumber.
+     */
+    Flux<User> searchUsers(String text, int limit);
 }
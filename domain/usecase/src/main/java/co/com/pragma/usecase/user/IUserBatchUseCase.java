@@ -0,0 +1,52 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.exceptions.DomainException;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface IUserBatchUseCase {
+
+    int chunkSize();
+
+    /**
+     * Registers one chunk of users as a single unit of work, emitting one result per user in input order.
+     */
+    Flux<UserBatchResult> saveChunk(List<User> users);
+
+    /**
+     * Registers the users chunk by chunk, emitting one result per user in input order.
+     * <p>
+     * A chunk rejected by a domain error (e.g. a user registered concurrently by another request) is retried one
+     * user at a time, so only the offending user is reported, as CONFLICT for a duplicate, and the rest are still
+     * created. A chunk that fails for any other reason is reported as FAILED for each of its users instead of
+     * aborting the remaining chunks.
+     */
+    default Flux<UserBatchResult> saveAll(Flux<User> users) {
+        return users
+                .buffer(chunkSize())
+                .concatMap(chunk -> saveChunk(chunk)
+                        .onErrorResume(error -> chunk.size() > 1 && error instanceof DomainException
+                                ? saveOneByOne(chunk)
+                                : Flux.fromIterable(chunk).map(user -> failedResult(user, error))));
+    }
+
+    private Flux<UserBatchResult> saveOneByOne(List<User> chunk) {
+        return Flux.fromIterable(chunk)
+                .concatMap(user -> saveChunk(List.of(user))
+                        .onErrorResume(error -> Mono.just(failedResult(user, error))));
+    }
+
+    private static UserBatchResult failedResult(User user, Throwable error) {
+        if (error instanceof UserAlreadyExistsException) {
+            return UserBatchResult.conflict(user, error.getMessage());
+        }
+        return UserBatchResult.failed(user, error instanceof DomainException
+                ? error.getMessage()
+                : "Chunk could not be persisted");
+    }
+}
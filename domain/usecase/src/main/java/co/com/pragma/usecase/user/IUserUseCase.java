@@ -1,6 +1,10 @@
 package co.com.pragma.usecase.user;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserPage;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -8,4 +12,39 @@ public interface IUserUseCase {
     Mono<User> save(User user);
 
     Flux<User> findAll();
+
+    /**
+     * Streams every user matching the query, loading only the requested fields.
+     */
+    Flux<User> findAll(UserQuery query);
+
+    /**
+     * Keyset pagination over users ordered by idUser; the limit of the query is the page size.
+     */
+    Mono<UserPage> findPage(UserQuery query);
+
+    /**
+     * @return the user, or a {@code UserNotFoundException} error when there is none.
+     */
+    Mono<User> findById(Long idUser);
+
+    /**
+     * @return the user, or a {@code UserNotFoundException} error when there is none.
+     */
+    Mono<User> findByIdNumber(String idNumber);
+
+    /**
+     * @return the current version of the user listing, or {@code null} while it is unknown.
+     */
+    UserTableVersion listVersion();
+
+    /**
+     * @return the aggregates of the user table, from memory once they have been loaded.
+     */
+    Mono<UserStats> stats();
+
+    /**
+     * Prefix search over name, last name and email, best match first and capped at {@code limit} users.
+     */
+    Flux<User> search(String text, int limit);
 }
@@ -0,0 +1,13 @@
+package co.com.pragma.usecase.user;
+
+public enum RegistrationStrategy {
+    /**
+     * Looks up conflicting keys before inserting the user.
+     */
+    CHECK_FIRST,
+    /**
+     * Inserts straight away and relies on the unique constraints of the repository,
+     * which reports duplicates as {@link co.com.pragma.model.user.exceptions.UserAlreadyExistsException}.
+     */
+    INSERT_FIRST
+}
@@ -0,0 +1,113 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.model.user.ports.ILoggerPort;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class UserBatchUseCase implements IUserBatchUseCase {
+
+    private final IUserRepositoryPort iUserRepositoryPort;
+    private final ILoggerPort logger;
+    private final int chunkSize;
+
+    public UserBatchUseCase(IUserRepositoryPort iUserRepositoryPort, ILoggerPort logger, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.iUserRepositoryPort = iUserRepositoryPort;
+        this.logger = logger;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public Flux<UserBatchResult> saveChunk(List<User> users) {
+        return Flux.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando registro de lote de usuarios. Tamaño: {}", users.size());
+
+            Set<String> emails = new HashSet<>();
+            Set<String> idNumbers = new HashSet<>();
+            users.forEach(user -> {
+                emails.add(normalize(user.getEmail()));
+                idNumbers.add(normalize(user.getIdNumber()));
+            });
+
+            return iUserRepositoryPort.findByEmailsOrIdNumbers(emails, idNumbers)
+                    .collectList()
+                    .flatMapMany(registered -> persistNonConflicting(users, registered, traceId))
+                    .doOnComplete(() ->
+                            logger.info(traceId, "Registro de lote de usuarios finalizado"))
+                    .doOnError(error ->
+                            logger.failure(traceId, "Registro de lote de usuarios fallido", error));
+        });
+    }
+
+    private Flux<UserBatchResult> persistNonConflicting(List<User> users, List<User> registered, String traceId) {
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenIdNumbers = new HashSet<>();
+        registered.forEach(user -> {
+            takenEmails.add(normalize(user.getEmail()));
+            takenIdNumbers.add(normalize(user.getIdNumber()));
+        });
+
+        // Los duplicados dentro del mismo lote se tratan igual que los ya registrados;
+        // los usuarios a crear dejan un hueco (null) para conservar el orden de entrada
+        List<UserBatchResult> slots = new ArrayList<>(users.size());
+        List<User> toCreate = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (!takenEmails.add(normalize(user.getEmail()))) {
+                slots.add(UserBatchResult.conflict(user,
+                        UserAlreadyExistsException.byEmail(user.getEmail()).getMessage()));
+            } else if (!takenIdNumbers.add(normalize(user.getIdNumber()))) {
+                takenEmails.remove(normalize(user.getEmail()));
+                slots.add(UserBatchResult.conflict(user,
+                        UserAlreadyExistsException.byIdNumber(user.getIdNumber()).getMessage()));
+            } else {
+                toCreate.add(user);
+                slots.add(null);
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug(traceId, "Usuarios a persistir: {} | Conflictos: {}",
+                    toCreate.size(), users.size() - toCreate.size());
+        }
+
+        if (toCreate.isEmpty()) {
+            return Flux.fromIterable(slots);
+        }
+        return iUserRepositoryPort.saveAllUsers(Flux.fromIterable(toCreate))
+                .collectList()
+                .flatMapMany(saved -> Flux.fromIterable(mergeInInputOrder(slots, saved)));
+    }
+
+    /**
+     * Fills the slots left for created users with the saved users, which the repository returns in insert order.
+     */
+    private static List<UserBatchResult> mergeInInputOrder(List<UserBatchResult> slots, List<User> saved) {
+        List<UserBatchResult> results = new ArrayList<>(slots.size());
+        Iterator<User> savedUsers = saved.iterator();
+        for (UserBatchResult slot : slots) {
+            results.add(slot != null ? slot : UserBatchResult.created(savedUsers.next()));
+        }
+        return results;
+    }
+
+    private static String normalize(String key) {
+        return key == null ? "" : key.toLowerCase(Locale.ROOT);
+    }
+}
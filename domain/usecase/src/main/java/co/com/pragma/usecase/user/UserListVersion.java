@@ -0,0 +1,44 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.UserTableVersion;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Current {@link UserTableVersion} as seen by this node, so the listing can be revalidated without a query.
+ * <p>
+ * The version is unknown until {@link #refresh(UserTableVersion)} has read it from the repository once. Local
+ * saves move it forward immediately; periodic refreshes pick up users inserted by other nodes and correct any
+ * drift, which at worst makes a client download an unchanged listing again.
+ */
+public class UserListVersion {
+
+    private final AtomicReference<UserTableVersion> current = new AtomicReference<>();
+
+    public void refresh(UserTableVersion version) {
+        current.set(version);
+    }
+
+    /**
+     * Forgets the version, e.g. when it could not be refreshed, so no client is told the listing is unchanged.
+     */
+    public void invalidate() {
+        current.set(null);
+    }
+
+    /**
+     * Records a user inserted by this node.
+     */
+    public void inserted(Long idUser) {
+        if (idUser != null) {
+            current.updateAndGet(version -> version == null ? null : version.withInserted(idUser));
+        }
+    }
+
+    /**
+     * @return the current version, or {@code null} while it has not been read from the repository.
+     */
+    public UserTableVersion current() {
+        return current.get();
+    }
+}
@@ -0,0 +1,60 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserStats;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link UserStats} maintained in memory, so reading them costs nothing instead of a pass over the user table.
+ * <p>
+ * The stats are unknown until {@link #refresh(UserStats)} has loaded them from the repository once. Local saves
+ * are applied as they succeed; periodic reconciles pick up users inserted by other nodes and correct any drift.
+ */
+public class UserStatistics {
+
+    public static final BigDecimal DEFAULT_SALARY_BUCKET_WIDTH = BigDecimal.valueOf(1_000_000);
+    public static final int DEFAULT_SALARY_BUCKETS = 15;
+
+    private final BigDecimal salaryBucketWidth;
+    private final int salaryBuckets;
+    private final AtomicReference<UserStats> current = new AtomicReference<>();
+
+    public UserStatistics() {
+        this(DEFAULT_SALARY_BUCKET_WIDTH, DEFAULT_SALARY_BUCKETS);
+    }
+
+    public UserStatistics(BigDecimal salaryBucketWidth, int salaryBuckets) {
+        // fails fast on an invalid histogram configuration
+        UserStats.empty(salaryBucketWidth, salaryBuckets);
+        this.salaryBucketWidth = salaryBucketWidth;
+        this.salaryBuckets = salaryBuckets;
+    }
+
+    public BigDecimal getSalaryBucketWidth() {
+        return salaryBucketWidth;
+    }
+
+    public int getSalaryBuckets() {
+        return salaryBuckets;
+    }
+
+    public void refresh(UserStats stats) {
+        current.set(stats);
+    }
+
+    /**
+     * Records a user inserted by this node.
+     */
+    public void inserted(User user) {
+        current.updateAndGet(stats -> stats == null ? null : stats.withInserted(user));
+    }
+
+    /**
+     * @return the current stats, or {@code null} while they have not been loaded from the repository.
+     */
+    public UserStats current() {
+        return current.get();
+    }
+}
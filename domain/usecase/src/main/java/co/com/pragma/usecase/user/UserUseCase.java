@@ -1,20 +1,50 @@
 package co.com.pragma.usecase.user;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.entities.UserPage;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.model.user.exceptions.UserNotFoundException;
 import co.com.pragma.model.user.ports.ILoggerPort;
 import co.com.pragma.model.user.ports.IUserRepositoryPort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public class UserUseCase implements IUserUseCase {
 
     private final IUserRepositoryPort iUserRepositoryPort;
     private final ILoggerPort logger;
+    private final RegistrationStrategy registrationStrategy;
+    private final UserListVersion listVersion;
+    private final UserStatistics statistics;
 
     public UserUseCase(IUserRepositoryPort iUserRepositoryPort, ILoggerPort logger) {
+        this(iUserRepositoryPort, logger, RegistrationStrategy.CHECK_FIRST);
+    }
+
+    public UserUseCase(IUserRepositoryPort iUserRepositoryPort, ILoggerPort logger,
+                       RegistrationStrategy registrationStrategy) {
+        this(iUserRepositoryPort, logger, registrationStrategy, new UserListVersion());
+    }
+
+    public UserUseCase(IUserRepositoryPort iUserRepositoryPort, ILoggerPort logger,
+                       RegistrationStrategy registrationStrategy, UserListVersion listVersion) {
+        this(iUserRepositoryPort, logger, registrationStrategy, listVersion, new UserStatistics());
+    }
+
+    public UserUseCase(IUserRepositoryPort iUserRepositoryPort, ILoggerPort logger,
+                       RegistrationStrategy registrationStrategy, UserListVersion listVersion,
+                       UserStatistics statistics) {
         this.iUserRepositoryPort = iUserRepositoryPort;
         this.logger = logger;
+        this.registrationStrategy = registrationStrategy;
+        this.listVersion = listVersion;
+        this.statistics = statistics;
     }
 
     @Override
@@ -24,12 +54,11 @@ public class UserUseCase implements IUserUseCase {
             logger.info(traceId, "Iniciando caso de uso de guardado de usuario. ID: {} | Email: {}",
                     user.getIdUser(), user.getEmail());
 
-            return validateUserDoesNotExist(user, traceId)
-                    .flatMap(validUser -> saveUserToRepository(validUser, traceId))
+            return register(user, traceId)
                     .doOnSuccess(savedUser ->
                             logger.info(traceId, "Caso de uso de guardado de usuario finalizado exitosamente"))
                     .doOnError(error ->
-                            logger.error(traceId, "Caso de uso de guardado de usuario fallido", error));
+                            logger.failure(traceId, "Caso de uso de guardado de usuario fallido", error));
         });
     }
 
@@ -44,31 +73,136 @@ public class UserUseCase implements IUserUseCase {
                             logger.info(traceId, "Consulta de todos los usuarios completada exitosamente")
                     )
                     .doOnError(error ->
-                            logger.error(traceId, "Error al consultar todos los usuarios", error)
+                            logger.failure(traceId, "Error al consultar todos los usuarios", error)
                     );
         });
     }
 
+    @Override
+    public Flux<User> findAll(UserQuery query) {
+        return Flux.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando consulta de usuarios. Campos: {}", query.getFields());
+
+            return iUserRepositoryPort.findUsers(query)
+                    .doOnComplete(() ->
+                            logger.info(traceId, "Consulta de usuarios completada exitosamente"))
+                    .doOnError(error ->
+                            logger.failure(traceId, "Error al consultar los usuarios", error));
+        });
+    }
+
+    @Override
+    public Mono<UserPage> findPage(UserQuery query) {
+        return Mono.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            int limit = query.getLimit();
+            logger.info(traceId, "Iniciando consulta paginada de usuarios. Despues de: {} | Limite: {} | Campos: {}",
+                    query.getAfterIdUser(), limit, query.getFields());
+
+            // Se pide un registro extra para saber si existe una pagina siguiente
+            return iUserRepositoryPort.findUsers(query.withLimit(limit + 1))
+                    .collectList()
+                    .map(users -> toPage(users, limit))
+                    .doOnSuccess(page ->
+                            logger.info(traceId, "Consulta paginada de usuarios completada. Registros: {}",
+                                    page.getUsers().size()))
+                    .doOnError(error ->
+                            logger.failure(traceId, "Error al consultar la pagina de usuarios", error));
+        });
+    }
+
+    @Override
+    public Mono<User> findById(Long idUser) {
+        return Mono.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando consulta de usuario por ID: {}", idUser);
+
+            return iUserRepositoryPort.findByIdUser(idUser)
+                    .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.valueOf(idUser))))
+                    .doOnError(error -> logger.failure(traceId, "Error al consultar el usuario por ID", error));
+        });
+    }
+
+    @Override
+    public Mono<User> findByIdNumber(String idNumber) {
+        return Mono.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando consulta de usuario por numero de documento: {}", idNumber);
+
+            return iUserRepositoryPort.findByIdNumber(idNumber)
+                    .switchIfEmpty(Mono.error(() -> new UserNotFoundException(idNumber)))
+                    .doOnError(error ->
+                            logger.failure(traceId, "Error al consultar el usuario por numero de documento", error));
+        });
+    }
+
+    @Override
+    public UserTableVersion listVersion() {
+        return listVersion.current();
+    }
+
+    @Override
+    public Mono<UserStats> stats() {
+        return Mono.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando consulta de estadisticas de usuarios");
+
+            UserStats current = statistics.current();
+            if (current != null) {
+                return Mono.just(current);
+            }
+            // Solo hasta la primera reconciliacion: luego se responde desde memoria
+            logger.info(traceId, "Estadisticas aun no cargadas, se calculan en el repositorio");
+            return iUserRepositoryPort.findStats(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets())
+                    .doOnNext(statistics::refresh)
+                    .doOnError(error ->
+                            logger.failure(traceId, "Error al consultar las estadisticas de usuarios", error));
+        });
+    }
+
+    @Override
+    public Flux<User> search(String text, int limit) {
+        return Flux.deferContextual(ctx -> {
+            String traceId = ctx.getOrDefault("traceId", "unknown");
+            logger.info(traceId, "Iniciando busqueda de usuarios. Texto: {} | Limite: {}", text, limit);
+
+            return iUserRepositoryPort.searchUsers(text, limit)
+                    .doOnError(error -> logger.failure(traceId, "Error al buscar usuarios", error));
+        });
+    }
+
+    private static UserPage toPage(List<User> users, int limit) {
+        if (users.size() <= limit) {
+            return new UserPage(users, null);
+        }
+        List<User> page = users.subList(0, limit);
+        return new UserPage(page, page.get(limit - 1).getIdUser());
+    }
+
+    private Mono<User> register(User user, String traceId) {
+        if (registrationStrategy == RegistrationStrategy.INSERT_FIRST) {
+            // Los duplicados los detectan las restricciones unicas del repositorio
+            return saveUserToRepository(user, traceId);
+        }
+        return validateUserDoesNotExist(user, traceId)
+                .flatMap(validUser -> saveUserToRepository(validUser, traceId));
+    }
+
     private Mono<User> validateUserDoesNotExist(User user, String traceId) {
-        return iUserRepositoryPort.existsByIdUser(user.getIdUser())
-                .flatMap(existsId -> {
-                    if (Boolean.TRUE.equals(existsId)) {
-                        return Mono.error(new UserAlreadyExistsException(
-                                "User with idUser " + user.getIdUser() + " already exists"));
+        logger.debug(traceId, "Validando unicidad de idUser, email e idNumber");
+
+        return iUserRepositoryPort.findConflicts(user)
+                .defaultIfEmpty(UserConflicts.none())
+                .flatMap(conflicts -> {
+                    if (conflicts.isIdUserTaken()) {
+                        return Mono.error(UserAlreadyExistsException.byIdUser(user.getIdUser()));
                     }
-                    return iUserRepositoryPort.existsByEmail(user.getEmail());
-                })
-                .flatMap(existsEmail -> {
-                    if (Boolean.TRUE.equals(existsEmail)) {
-                        return Mono.error(new UserAlreadyExistsException(
-                                "User with email " + user.getEmail() + " already exists"));
+                    if (conflicts.isEmailTaken()) {
+                        return Mono.error(UserAlreadyExistsException.byEmail(user.getEmail()));
                     }
-                    return iUserRepositoryPort.existsByIdNumber(user.getIdNumber());
-                })
-                .flatMap(existsIdNumber -> {
-                    if (Boolean.TRUE.equals(existsIdNumber)) {
-                        return Mono.error(new UserAlreadyExistsException(
-                                "User with idNumber " + user.getIdNumber() + " already exists"));
+                    if (conflicts.isIdNumberTaken()) {
+                        return Mono.error(UserAlreadyExistsException.byIdNumber(user.getIdNumber()));
                     }
                     return Mono.just(user);
                 });
@@ -79,7 +213,7 @@ public class UserUseCase implements IUserUseCase {
 
         return iUserRepositoryPort.saveUser(user)
                 .doOnSuccess(savedUser -> logger.debug(traceId, "Usuario persistido exitosamente en repositorio"))
-                .doOnError(error -> logger.error(traceId, "Error al persistir usuario en repositorio", error));
+                .doOnError(error -> logger.failure(traceId, "Error al persistir usuario en repositorio", error));
     }
 
 }
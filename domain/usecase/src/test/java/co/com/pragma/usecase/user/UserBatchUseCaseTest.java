@@ -0,0 +1,176 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.model.user.ports.ILoggerPort;
+import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchUseCaseTest {
+
+    @Mock
+    private IUserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private ILoggerPort logger;
+
+    private UserBatchUseCase userBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        userBatchUseCase = new UserBatchUseCase(userRepositoryPort, logger, 2);
+    }
+
+    @Test
+    void saveChunk_ShouldReportCreatedAndConflictsInInputOrder() {
+        // Arrange
+        User registered = user("taken@example.com", "1");
+        User conflicting = user("Taken@Example.com", "2");
+        User fresh = user("fresh@example.com", "3");
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.just(registered));
+        when(userRepositoryPort.saveAllUsers(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveChunk(List.of(conflicting, fresh)))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CONFLICT
+                        && result.getUser() == conflicting)
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CREATED
+                        && result.getUser() == fresh)
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAll_WhenChunkRepeatsIdNumber_ShouldOnlyCreateFirstOccurrence() {
+        // Arrange
+        User first = user("a@example.com", "10");
+        User repeated = user("b@example.com", "10");
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.empty());
+        when(userRepositoryPort.saveAllUsers(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveAll(Flux.just(first, repeated)))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CREATED)
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CONFLICT
+                        && result.getMessage().equals("User with idNumber 10 already exists"))
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAll_ShouldQueryRepositoryOncePerChunk() {
+        // Arrange
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.empty());
+        when(userRepositoryPort.saveAllUsers(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveAll(Flux.just(
+                        user("a@example.com", "1"), user("b@example.com", "2"), user("c@example.com", "3"))))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        verify(userRepositoryPort, times(2)).findByEmailsOrIdNumbers(anyCollection(), anyCollection());
+        verify(userRepositoryPort, times(2)).saveAllUsers(any());
+    }
+
+    @Test
+    void saveAll_WhenChunkFails_ShouldReportFailedAndContinue() {
+        // Arrange
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.error(new RuntimeException("Connection lost")))
+                .thenReturn(Flux.empty());
+        when(userRepositoryPort.saveAllUsers(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveAll(Flux.just(
+                        user("a@example.com", "1"), user("b@example.com", "2"), user("c@example.com", "3"))))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.FAILED)
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.FAILED)
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CREATED)
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAll_WhenConcurrentDuplicateFailsChunk_ShouldReportOnlyThatUserAsConflict() {
+        // Arrange
+        User duplicated = user("a@example.com", "1");
+        User fresh = user("b@example.com", "2");
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(user("a@example.com", "9")))
+                .thenReturn(Flux.empty());
+        when(userRepositoryPort.saveAllUsers(any()))
+                .thenReturn(Flux.error(UserAlreadyExistsException.byEmail("a@example.com")))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveAll(Flux.just(duplicated, fresh)))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CONFLICT
+                        && result.getUser() == duplicated
+                        && result.getMessage().contains("a@example.com"))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CREATED
+                        && result.getUser() == fresh
+                        && result.getMessage() == null)
+                .verifyComplete();
+
+        verify(userRepositoryPort, times(2)).saveAllUsers(any());
+    }
+
+    @Test
+    void saveAll_WhenChunkFailsUnexpectedly_ShouldNotReportAnotherUsersMessage() {
+        // Arrange
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.empty());
+        when(userRepositoryPort.saveAllUsers(any())).thenReturn(Flux.error(new RuntimeException("Connection lost")));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveAll(Flux.just(
+                        user("a@example.com", "1"), user("b@example.com", "2"))))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.FAILED
+                        && result.getMessage().equals("Chunk could not be persisted"))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.FAILED
+                        && result.getMessage().equals("Chunk could not be persisted"))
+                .verifyComplete();
+    }
+
+    @Test
+    void saveChunk_WhenEveryUserConflicts_ShouldNotPersist() {
+        // Arrange
+        User registered = user("taken@example.com", "1");
+        when(userRepositoryPort.findByEmailsOrIdNumbers(anyCollection(), anyCollection()))
+                .thenReturn(Flux.just(registered));
+
+        // Act & Assert
+        StepVerifier.create(userBatchUseCase.saveChunk(List.of(user("other@example.com", "1"))))
+                .expectNextMatches(result -> result.getStatus() == UserBatchResult.Status.CONFLICT)
+                .verifyComplete();
+
+        verify(userRepositoryPort, never()).saveAllUsers(any());
+    }
+
+    private static User user(String email, String idNumber) {
+        return new User()
+                .setName("Test")
+                .setLastName("User")
+                .setEmail(email)
+                .setIdNumber(idNumber);
+    }
+}
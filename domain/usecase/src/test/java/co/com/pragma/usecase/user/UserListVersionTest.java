@@ -0,0 +1,39 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.UserTableVersion;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserListVersionTest {
+
+    @Test
+    void inserted_BeforeFirstRefresh_ShouldKeepVersionUnknown() {
+        UserListVersion listVersion = new UserListVersion();
+
+        listVersion.inserted(7L);
+
+        assertNull(listVersion.current());
+    }
+
+    @Test
+    void inserted_AfterRefresh_ShouldChangeToken() {
+        UserListVersion listVersion = new UserListVersion();
+        listVersion.refresh(new UserTableVersion(10L, 5L));
+
+        listVersion.inserted(11L);
+
+        assertEquals("11-6", listVersion.current().token());
+    }
+
+    @Test
+    void invalidate_ShouldForgetVersion() {
+        UserListVersion listVersion = new UserListVersion();
+        listVersion.refresh(UserTableVersion.empty());
+
+        listVersion.invalidate();
+
+        assertNull(listVersion.current());
+    }
+}
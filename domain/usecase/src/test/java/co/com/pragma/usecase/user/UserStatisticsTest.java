@@ -0,0 +1,66 @@
+package co.com.pragma.usecase.user;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserStatisticsTest {
+
+    @Test
+    void inserted_BeforeFirstRefresh_ShouldKeepStatsUnknown() {
+        UserStatistics statistics = new UserStatistics();
+
+        statistics.inserted(user((byte) 1, "1000000"));
+
+        assertNull(statistics.current());
+    }
+
+    @Test
+    void inserted_AfterRefresh_ShouldUpdateEveryAggregate() {
+        UserStatistics statistics = new UserStatistics(BigDecimal.valueOf(1_000_000), 3);
+        statistics.refresh(UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()));
+
+        statistics.inserted(user((byte) 1, "1500000"));
+        statistics.inserted(user((byte) 3, "900000"));
+        statistics.inserted(user((byte) 3, "15000000"));
+
+        UserStats stats = statistics.current();
+        assertEquals(3L, stats.getTotal());
+        assertEquals(Map.of((byte) 1, 1L, (byte) 3, 2L), stats.getUsersByRole());
+        assertEquals(new BigDecimal("900000"), stats.getSalaryMin());
+        assertEquals(new BigDecimal("15000000"), stats.getSalaryMax());
+        assertEquals(new BigDecimal("5800000.00"), stats.getSalaryAverage());
+        // salaries above the last bound fall into the open-ended bucket
+        assertArrayEquals(new long[]{1, 1, 1}, stats.getSalaryHistogram());
+    }
+
+    @Test
+    void refresh_ShouldReplaceLocallyMaintainedStats() {
+        UserStatistics statistics = new UserStatistics();
+        statistics.refresh(UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()));
+        statistics.inserted(user((byte) 1, "1000000"));
+
+        UserStats reconciled = UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets());
+        statistics.refresh(reconciled);
+
+        assertEquals(reconciled, statistics.current());
+    }
+
+    @Test
+    void constructor_WithInvalidBuckets_ShouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> new UserStatistics(BigDecimal.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new UserStatistics(BigDecimal.ONE, 0));
+    }
+
+    private static User user(Byte roleId, String baseSalary) {
+        return new User().setRoleId(roleId).setBaseSalary(new BigDecimal(baseSalary));
+    }
+}
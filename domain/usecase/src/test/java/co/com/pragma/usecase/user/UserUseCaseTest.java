@@ -1,7 +1,11 @@
 package co.com.pragma.usecase.user;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
 import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.model.user.exceptions.UserNotFoundException;
 import co.com.pragma.model.user.ports.ILoggerPort;
 import co.com.pragma.model.user.ports.IUserRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +20,15 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -57,9 +66,7 @@ class UserUseCaseTest {
     @Test
     void saveUser_Success() {
         // Arrange
-        when(userRepositoryPort.existsByIdUser(anyLong())).thenReturn(Mono.just(false));
-        when(userRepositoryPort.existsByEmail(anyString())).thenReturn(Mono.just(false));
-        when(userRepositoryPort.existsByIdNumber(anyString())).thenReturn(Mono.just(false));
+        when(userRepositoryPort.findConflicts(any(User.class))).thenReturn(Mono.just(UserConflicts.none()));
         when(userRepositoryPort.saveUser(any(User.class))).thenReturn(Mono.just(testUser));
 
         // Act & Assert
@@ -67,15 +74,17 @@ class UserUseCaseTest {
                 .expectNext(testUser)
                 .verifyComplete();
 
-        verify(userRepositoryPort).existsByIdUser(testUser.getIdUser());
-        verify(userRepositoryPort).existsByEmail(testUser.getEmail());
-        verify(userRepositoryPort).existsByIdNumber(testUser.getIdNumber());
+        verify(userRepositoryPort).findConflicts(testUser);
+        verify(userRepositoryPort, never()).existsByIdUser(anyLong());
+        verify(userRepositoryPort, never()).existsByEmail(anyString());
+        verify(userRepositoryPort, never()).existsByIdNumber(anyString());
         verify(userRepositoryPort).saveUser(testUser);
     }
 
     @Test
     void saveUser_WhenUserWithIdExists_ShouldThrowException() {
-        when(userRepositoryPort.existsByIdUser(testUser.getIdUser())).thenReturn(Mono.just(true));
+        when(userRepositoryPort.findConflicts(testUser))
+                .thenReturn(Mono.just(new UserConflicts(true, true, true)));
 
         StepVerifier.create(userUseCase.save(testUser))
                 .expectErrorMatches(throwable ->
@@ -88,8 +97,8 @@ class UserUseCaseTest {
 
     @Test
     void saveUser_WhenUserWithEmailExists_ShouldThrowException() {
-        when(userRepositoryPort.existsByIdUser(anyLong())).thenReturn(Mono.just(false));
-        when(userRepositoryPort.existsByEmail(testUser.getEmail())).thenReturn(Mono.just(true));
+        when(userRepositoryPort.findConflicts(testUser))
+                .thenReturn(Mono.just(new UserConflicts(false, true, true)));
 
         StepVerifier.create(userUseCase.save(testUser))
                 .expectErrorMatches(throwable ->
@@ -102,9 +111,8 @@ class UserUseCaseTest {
 
     @Test
     void saveUser_WhenUserWithIdNumberExists_ShouldThrowException() {
-        when(userRepositoryPort.existsByIdUser(anyLong())).thenReturn(Mono.just(false));
-        when(userRepositoryPort.existsByEmail(anyString())).thenReturn(Mono.just(false));
-        when(userRepositoryPort.existsByIdNumber(testUser.getIdNumber())).thenReturn(Mono.just(true));
+        when(userRepositoryPort.findConflicts(testUser))
+                .thenReturn(Mono.just(new UserConflicts(false, false, true)));
 
         StepVerifier.create(userUseCase.save(testUser))
                 .expectErrorMatches(throwable ->
@@ -115,6 +123,47 @@ class UserUseCaseTest {
         verify(userRepositoryPort, never()).saveUser(any());
     }
 
+    @Test
+    void saveUser_WhenUserExists_ShouldLogExpectedFailureWithoutStackTrace() {
+        when(userRepositoryPort.findConflicts(testUser))
+                .thenReturn(Mono.just(new UserConflicts(false, true, false)));
+
+        StepVerifier.create(userUseCase.save(testUser))
+                .expectErrorMatches(throwable ->
+                        throwable instanceof UserAlreadyExistsException && throwable.getStackTrace().length == 0)
+                .verify();
+
+        verify(logger).failure(anyString(), anyString(), any(UserAlreadyExistsException.class));
+        verify(logger, never()).error(anyString(), anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void saveUser_WithInsertFirstStrategy_ShouldSkipConflictLookup() {
+        UserUseCase insertFirstUseCase = new UserUseCase(userRepositoryPort, logger, RegistrationStrategy.INSERT_FIRST);
+        when(userRepositoryPort.saveUser(testUser)).thenReturn(Mono.just(testUser));
+
+        StepVerifier.create(insertFirstUseCase.save(testUser))
+                .expectNext(testUser)
+                .verifyComplete();
+
+        verify(userRepositoryPort, never()).findConflicts(any());
+    }
+
+    @Test
+    void saveUser_WithInsertFirstStrategy_ShouldPropagateDuplicateFromRepository() {
+        UserUseCase insertFirstUseCase = new UserUseCase(userRepositoryPort, logger, RegistrationStrategy.INSERT_FIRST);
+        when(userRepositoryPort.saveUser(testUser))
+                .thenReturn(Mono.error(UserAlreadyExistsException.byEmail(testUser.getEmail())));
+
+        StepVerifier.create(insertFirstUseCase.save(testUser))
+                .expectErrorMatches(throwable ->
+                        throwable instanceof UserAlreadyExistsException &&
+                                throwable.getMessage().contains("email " + testUser.getEmail()))
+                .verify();
+
+        verify(userRepositoryPort, never()).findConflicts(any());
+    }
+
     @Test
     void findAll_ShouldReturnAllUsers() {
         User user1 = new User("s", "s", "s", "s", LocalDate.now(), "s", "s", (byte) 1, new BigDecimal(1000));
@@ -128,4 +177,102 @@ class UserUseCaseTest {
 
         verify(logger, times(2)).info(anyString(), anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPage_WhenMoreUsersRemain_ShouldReturnNextCursor() {
+        User user1 = new User().setIdUser(1L);
+        User user2 = new User().setIdUser(2L);
+        User user3 = new User().setIdUser(3L);
+        when(userRepositoryPort.findUsers(argThat(query -> query.getAfterIdUser() == null && query.getLimit() == 3)))
+                .thenReturn(Flux.just(user1, user2, user3));
+
+        StepVerifier.create(userUseCase.findPage(UserQuery.all().withLimit(2)))
+                .assertNext(page -> {
+                    assertEquals(List.of(user1, user2), page.getUsers());
+                    assertEquals(2L, page.getNextAfterIdUser());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findPage_OnLastPage_ShouldNotReturnCursor() {
+        User user3 = new User().setIdUser(3L);
+        when(userRepositoryPort.findUsers(argThat(query -> query.getAfterIdUser() == 2L && query.getLimit() == 3)))
+                .thenReturn(Flux.just(user3));
+
+        StepVerifier.create(userUseCase.findPage(UserQuery.all().withAfterIdUser(2L).withLimit(2)))
+                .assertNext(page -> {
+                    assertEquals(List.of(user3), page.getUsers());
+                    assertFalse(page.hasNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findById_WhenUserExists_ShouldReturnUser() {
+        User user = new User().setIdUser(5L);
+        when(userRepositoryPort.findByIdUser(5L)).thenReturn(Mono.just(user));
+
+        StepVerifier.create(userUseCase.findById(5L))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void findByIdNumber_WhenUserDoesNotExist_ShouldFailWithNotFound() {
+        when(userRepositoryPort.findByIdNumber("999")).thenReturn(Mono.empty());
+
+        StepVerifier.create(userUseCase.findByIdNumber("999"))
+                .expectError(UserNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void stats_BeforeFirstReconcile_ShouldComputeThemOnceInRepository() {
+        UserStatistics statistics = new UserStatistics();
+        UserUseCase useCase = new UserUseCase(userRepositoryPort, logger, RegistrationStrategy.CHECK_FIRST,
+                new UserListVersion(), statistics);
+        UserStats stats = UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets())
+                .withInserted(testUser);
+        when(userRepositoryPort.findStats(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()))
+                .thenReturn(Mono.just(stats));
+
+        StepVerifier.create(useCase.stats())
+                .expectNext(stats)
+                .verifyComplete();
+        StepVerifier.create(useCase.stats())
+                .expectNext(stats)
+                .verifyComplete();
+
+        verify(userRepositoryPort, times(1)).findStats(any(), anyInt());
+    }
+
+    @Test
+    void stats_AfterReconcile_ShouldBeServedFromMemoryWithoutQuerying() {
+        UserStatistics statistics = new UserStatistics();
+        statistics.refresh(UserStats.empty(statistics.getSalaryBucketWidth(), statistics.getSalaryBuckets()));
+        UserUseCase useCase = new UserUseCase(userRepositoryPort, logger, RegistrationStrategy.CHECK_FIRST,
+                new UserListVersion(), statistics);
+        statistics.inserted(testUser);
+
+        StepVerifier.create(useCase.stats())
+                .assertNext(stats -> {
+                    assertEquals(1L, stats.getTotal());
+                    assertEquals(1L, stats.getUsersByRole().get((byte) 1));
+                    assertEquals(1L, stats.getSalaryHistogram()[5]);
+                })
+                .verifyComplete();
+
+        verify(userRepositoryPort, never()).findStats(any(), anyInt());
+        verify(userRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void search_ShouldDelegateToRepository() {
+        when(userRepositoryPort.searchUsers("tes", 5)).thenReturn(Flux.just(testUser));
+
+        StepVerifier.create(userUseCase.search("tes", 5))
+                .expectNext(testUser)
+                .verifyComplete();
+    }
+}
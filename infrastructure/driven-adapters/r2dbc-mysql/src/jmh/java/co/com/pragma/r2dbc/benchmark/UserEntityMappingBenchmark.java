@@ -0,0 +1,64 @@
+package co.com.pragma.r2dbc.benchmark;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.r2dbc.entities.UserEntity;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row cost of the User / UserEntity mapping done by the R2DBC adapter on every save and every row read,
+ * reflective {@link ObjectMapperImp} against the MapStruct {@link UserEntityMapper}.
+ * <p>
+ * Run with {@code ./gradlew :r2dbc-mysql:jmh}; the gc profiler reports {@code gc.alloc.rate.norm}, the bytes
+ * allocated per mapped row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserEntityMappingBenchmark {
+
+    private final ObjectMapper reflective = new ObjectMapperImp();
+    private final UserEntityMapper generated = Mappers.getMapper(UserEntityMapper.class);
+
+    private final User user = new User(7L, "Ana", "Diaz", "ana@example.com", "1001",
+            LocalDate.of(1990, 5, 17), "Calle 1", "3001234567", (byte) 2, new BigDecimal("2500000.00"));
+    private final UserEntity entity = generated.toData(user);
+
+    @Benchmark
+    public UserEntity toDataReflective() {
+        return reflective.map(user, UserEntity.class);
+    }
+
+    @Benchmark
+    public UserEntity toDataGenerated() {
+        return generated.toData(user);
+    }
+
+    @Benchmark
+    public User toEntityReflective() {
+        return reflective.map(entity, User.class);
+    }
+
+    @Benchmark
+    public User toEntityGenerated() {
+        return generated.toEntity(entity);
+    }
+}
@@ -1,13 +1,27 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserConflicts;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import co.com.pragma.model.user.ports.IUserRepositoryPort;
+import co.com.pragma.r2dbc.coalescer.UserInsertCoalescer;
 import co.com.pragma.r2dbc.entities.UserEntity;
+import co.com.pragma.r2dbc.helper.DuplicateKeyErrorTranslator;
 import co.com.pragma.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
 import org.reactivecommons.utils.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public class IUserEntityRepositoryPortAdapter extends ReactiveAdapterOperations<
         User,
@@ -15,13 +29,54 @@ public class IUserEntityRepositoryPortAdapter extends ReactiveAdapterOperations<
         String,
         UserEntityRepository
         > implements IUserRepositoryPort {
+    private final UserInsertCoalescer insertCoalescer;
+
     public IUserEntityRepositoryPortAdapter(UserEntityRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, User.class));
+        this(repository, mapper, (UserInsertCoalescer) null);
+    }
+
+    @Autowired
+    public IUserEntityRepositoryPortAdapter(UserEntityRepository repository, ObjectMapper mapper,
+                                            ObjectProvider<UserInsertCoalescer> insertCoalescer,
+                                            ObjectProvider<UserEntityMapper> entityMapper) {
+        this(repository, mapper, insertCoalescer.getIfAvailable(), entityMapper.getIfAvailable());
+    }
+
+    IUserEntityRepositoryPortAdapter(UserEntityRepository repository, ObjectMapper mapper,
+                                     UserInsertCoalescer insertCoalescer) {
+        this(repository, mapper, insertCoalescer, null);
+    }
+
+    IUserEntityRepositoryPortAdapter(UserEntityRepository repository, ObjectMapper mapper,
+                                     UserInsertCoalescer insertCoalescer, UserEntityMapper entityMapper) {
+        super(repository, mapper, d -> mapper.map(d, User.class), entityMapper);
+        this.insertCoalescer = insertCoalescer;
     }
 
     @Override
     public Mono<User> saveUser(User user) {
-        return save(user);
+        // Users with an explicit idUser are updates for Spring Data and keep the single-row path
+        if (insertCoalescer != null && user.getIdUser() == null) {
+            return insertCoalescer.insert(user);
+        }
+        return save(user)
+                .onErrorMap(error -> DuplicateKeyErrorTranslator.translate(error, user));
+    }
+
+    @Override
+    public Flux<User> saveAllUsers(Flux<User> users) {
+        return saveAllEntities(users)
+                .onErrorMap(DuplicateKeyErrorTranslator::translate);
+    }
+
+    @Override
+    public Mono<User> findByIdUser(Long idUser) {
+        return repository.findUserByIdUser(idUser);
+    }
+
+    @Override
+    public Mono<User> findByIdNumber(String idNumber) {
+        return repository.findUserByIdNumber(idNumber);
     }
 
     @Override
@@ -38,4 +93,68 @@ public class IUserEntityRepositoryPortAdapter extends ReactiveAdapterOperations<
     public Mono<Boolean> existsByIdNumber(String idNumber) {
         return repository.existsByIdNumber(idNumber);
     }
+
+    @Override
+    public Mono<UserConflicts> findConflicts(User user) {
+        return repository.findConflicts(user.getIdUser(), user.getEmail(), user.getIdNumber())
+                .map(row -> new UserConflicts(
+                        isTaken(row.getIdUserTaken()),
+                        isTaken(row.getEmailTaken()),
+                        isTaken(row.getIdNumberTaken())))
+                .defaultIfEmpty(UserConflicts.none());
+    }
+
+    @Override
+    public Flux<User> findByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers) {
+        if (emails.isEmpty() && idNumbers.isEmpty()) {
+            return Flux.empty();
+        }
+        // an empty IN () list is invalid SQL, so a never-matching value stands in for it
+        return repository.findUsersByEmailsOrIdNumbers(orNone(emails), orNone(idNumbers));
+    }
+
+    /**
+     * Streams every user through the direct row mapping instead of the inherited Spring Data {@code findAll}.
+     */
+    @Override
+    public Flux<User> findAll() {
+        return repository.findUsers(UserQuery.all());
+    }
+
+    @Override
+    public Mono<UserTableVersion> findTableVersion() {
+        return repository.findTableVersion()
+                .map(row -> new UserTableVersion(row.getMaxIdUser(), row.getUserCount()))
+                .defaultIfEmpty(UserTableVersion.empty());
+    }
+
+    @Override
+    public Flux<User> findUsers(UserQuery query) {
+        return repository.findUsers(query);
+    }
+
+    @Override
+    public Mono<UserStats> findStats(BigDecimal salaryBucketWidth, int salaryBuckets) {
+        return repository.findStatsGroups(salaryBucketWidth, salaryBuckets - 1)
+                .reduce(UserStats.empty(salaryBucketWidth, salaryBuckets), (stats, group) -> stats.withGroup(
+                        group.getRoleId(),
+                        group.getSalaryBucket() == null ? -1 : group.getSalaryBucket(),
+                        group.getUserCount(),
+                        group.getSalaryMin(),
+                        group.getSalaryMax(),
+                        group.getSalarySum()));
+    }
+
+    @Override
+    public Flux<User> searchUsers(String text, int limit) {
+        return repository.searchUsers(text, limit);
+    }
+
+    private static Collection<String> orNone(Collection<String> keys) {
+        return keys.isEmpty() ? List.of("") : keys;
+    }
+
+    private static boolean isTaken(Long flag) {
+        return flag != null && flag != 0L;
+    }
 }
@@ -1,11 +1,19 @@
 package co.com.pragma.r2dbc;
 
+import co.com.pragma.r2dbc.entities.UserConflictsEntity;
 import co.com.pragma.r2dbc.entities.UserEntity;
+import co.com.pragma.r2dbc.entities.UserStatsGroupEntity;
+import co.com.pragma.r2dbc.entities.UserTableVersionEntity;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface UserEntityRepository extends ReactiveCrudRepository<UserEntity, String>, ReactiveQueryByExampleExecutor<UserEntity> {
+import java.math.BigDecimal;
+public interface UserEntityRepository extends ReactiveCrudRepository<UserEntity, String>, ReactiveQueryByExampleExecutor<UserEntity>,
+        UserQueryRepository {
 
     Mono<Boolean> existsByIdUser(Long idUser);
 
@@ -13,4 +21,32 @@ public interface UserEntityRepository extends ReactiveCrudRepository<UserEntity,
 
     Mono<Boolean> existsByIdNumber(String idNumber);
 
+    @Query("""
+            SELECT EXISTS(SELECT 1 FROM user WHERE id_user = :idUser) AS id_user_taken,
+                   EXISTS(SELECT 1 FROM user WHERE email = :email) AS email_taken,
+                   EXISTS(SELECT 1 FROM user WHERE id_number = :idNumber) AS id_number_taken
+            """)
+    Mono<UserConflictsEntity> findConflicts(@Param("idUser") Long idUser,
+                                            @Param("email") String email,
+                                            @Param("idNumber") String idNumber);
+
+    @Query("SELECT COALESCE(MAX(id_user), 0) AS max_id_user, COUNT(*) AS user_count FROM user")
+    Mono<UserTableVersionEntity> findTableVersion();
+
+    /**
+     * Groups users by role and salary bucket in a single pass; at most roles x buckets rows come back.
+     */
+    @Query("""
+            SELECT role_id,
+                   LEAST(FLOOR(base_salary / :bucketWidth), :lastBucket) AS salary_bucket,
+                   COUNT(*) AS user_count,
+                   MIN(base_salary) AS salary_min,
+                   MAX(base_salary) AS salary_max,
+                   SUM(base_salary) AS salary_sum
+            FROM user
+            GROUP BY role_id, salary_bucket
+            """)
+    Flux<UserStatsGroupEntity> findStatsGroups(@Param("bucketWidth") BigDecimal bucketWidth,
+                                               @Param("lastBucket") int lastBucket);
+
 }
@@ -0,0 +1,28 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Custom fragment of {@link UserEntityRepository} for the read paths: SQL through {@code DatabaseClient} with
+ * rows mapped straight into {@link User}, bypassing {@code UserEntity} and the Spring Data converters.
+ */
+public interface UserQueryRepository {
+
+    Flux<User> findUsers(UserQuery query);
+
+    Mono<User> findUserByIdUser(Long idUser);
+
+    Mono<User> findUserByIdNumber(String idNumber);
+
+    Flux<User> findUsersByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers);
+
+    /**
+     * Prefix search over name, last name and email; only the first term of the text is used.
+     */
+    Flux<User> searchUsers(String text, int limit);
+}
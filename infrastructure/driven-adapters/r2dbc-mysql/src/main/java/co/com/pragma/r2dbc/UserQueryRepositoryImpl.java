@@ -0,0 +1,179 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.r2dbc.helper.UserRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the SELECT from the requested fields and filters and maps each row straight into a {@link User},
+ * skipping the {@code UserEntity} and the reflective mapping of the generic adapter. {@code id_user} is always
+ * selected because it is the keyset cursor.
+ * <p>
+ * Filters are bound as parameters. The role, salary and birth date filters are served by these indexes
+ * (InnoDB appends the primary key to them, so {@code ORDER BY id_user} needs no filesort for equality filters):
+ * <pre>
+ * CREATE INDEX idx_user_role_id ON user (role_id);
+ * CREATE INDEX idx_user_base_salary ON user (base_salary);
+ * CREATE INDEX idx_user_birth_date ON user (birth_date);
+ * </pre>
+ * The email domain is a suffix match and cannot use an index on its own; combine it with another filter on
+ * large tables.
+ */
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private static final Map<String, String> CONDITIONS = Map.of(
+            "roleId", "role_id = :roleId",
+            "baseSalaryMin", "base_salary >= :baseSalaryMin",
+            "baseSalaryMax", "base_salary <= :baseSalaryMax",
+            "birthDateFrom", "birth_date >= :birthDateFrom",
+            "birthDateTo", "birth_date <= :birthDateTo",
+            "emailDomain", "email LIKE :emailDomain");
+
+    private static final UserRowMapper ALL_COLUMNS = UserRowMapper.of(EnumSet.allOf(UserField.class));
+    private static final UserRowMapper SEARCH_COLUMNS = UserRowMapper.of(
+            EnumSet.of(UserField.ID_USER, UserField.NAME, UserField.LAST_NAME, UserField.EMAIL, UserField.ID_NUMBER));
+
+    static final String SEARCH_SQL = "SELECT " + SEARCH_COLUMNS.columns() + " FROM user"
+            + " WHERE name LIKE :prefix OR last_name LIKE :prefix OR email LIKE :prefix"
+            + " ORDER BY id_user LIMIT :limit";
+    static final String BY_ID_USER_SQL = "SELECT " + ALL_COLUMNS.columns() + " FROM user WHERE id_user = :idUser";
+    static final String BY_ID_NUMBER_SQL =
+            "SELECT " + ALL_COLUMNS.columns() + " FROM user WHERE id_number = :idNumber";
+    static final String BY_EMAILS_OR_ID_NUMBERS_SQL = "SELECT " + ALL_COLUMNS.columns() + " FROM user"
+            + " WHERE email IN (:emails) OR id_number IN (:idNumbers)";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<User> findUsers(UserQuery query) {
+        Set<UserField> fields = selectedFields(query);
+        Map<String, Object> parameters = parameters(query);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql(fields, parameters.keySet()));
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(UserRowMapper.of(fields)::map).all();
+    }
+
+    @Override
+    public Mono<User> findUserByIdUser(Long idUser) {
+        return databaseClient.sql(BY_ID_USER_SQL)
+                .bind("idUser", idUser)
+                .map(ALL_COLUMNS::map)
+                .one();
+    }
+
+    @Override
+    public Mono<User> findUserByIdNumber(String idNumber) {
+        return databaseClient.sql(BY_ID_NUMBER_SQL)
+                .bind("idNumber", idNumber)
+                .map(ALL_COLUMNS::map)
+                .one();
+    }
+
+    /**
+     * The collections are expanded into IN lists and must not be empty.
+     */
+    @Override
+    public Flux<User> findUsersByEmailsOrIdNumbers(Collection<String> emails, Collection<String> idNumbers) {
+        return databaseClient.sql(BY_EMAILS_OR_ID_NUMBERS_SQL)
+                .bind("emails", emails)
+                .bind("idNumbers", idNumbers)
+                .map(ALL_COLUMNS::map)
+                .all();
+    }
+
+    /**
+     * Fallback for when the in-memory search index is not available. The OR of LIKEs is served by a scan on
+     * large tables, which is why the index answers searches once it is built.
+     */
+    @Override
+    public Flux<User> searchUsers(String text, int limit) {
+        String prefix = searchPrefix(text);
+        if (prefix == null) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SEARCH_SQL)
+                .bind("prefix", prefix)
+                .bind("limit", limit)
+                .map(SEARCH_COLUMNS::map)
+                .all();
+    }
+
+    /**
+     * LIKE pattern for the first term of the text, or {@code null} when it is blank.
+     */
+    static String searchPrefix(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return escapeLike(text.trim().split("\\s+")[0]) + "%";
+    }
+
+    private static Set<UserField> selectedFields(UserQuery query) {
+        if (!query.isProjected()) {
+            return EnumSet.allOf(UserField.class);
+        }
+        EnumSet<UserField> fields = EnumSet.copyOf(query.getFields());
+        fields.add(UserField.ID_USER);
+        return fields;
+    }
+
+    /**
+     * Bind values keyed by parameter name, in the order their conditions appear in the SQL.
+     */
+    static Map<String, Object> parameters(UserQuery query) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        // ids are AUTO_INCREMENT, so 0 is before the first user
+        parameters.put("afterIdUser", query.getAfterIdUser() == null ? 0L : query.getAfterIdUser());
+        putIfPresent(parameters, "roleId", query.getRoleId());
+        putIfPresent(parameters, "baseSalaryMin", query.getBaseSalaryMin());
+        putIfPresent(parameters, "baseSalaryMax", query.getBaseSalaryMax());
+        putIfPresent(parameters, "birthDateFrom", query.getBirthDateFrom());
+        putIfPresent(parameters, "birthDateTo", query.getBirthDateTo());
+        if (query.getEmailDomain() != null) {
+            parameters.put("emailDomain", "%@" + escapeLike(query.getEmailDomain()));
+        }
+        putIfPresent(parameters, "limit", query.getLimit());
+        return parameters;
+    }
+
+    static String sql(Set<UserField> fields, Set<String> parameters) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(UserRowMapper.of(fields).columns())
+                .append(" FROM user WHERE id_user > :afterIdUser");
+        for (String parameter : parameters) {
+            String condition = CONDITIONS.get(parameter);
+            if (condition != null) {
+                sql.append(" AND ").append(condition);
+            }
+        }
+        sql.append(" ORDER BY id_user");
+        if (parameters.contains("limit")) {
+            sql.append(" LIMIT :limit");
+        }
+        return sql.toString();
+    }
+
+    private static void putIfPresent(Map<String, Object> parameters, String name, Object value) {
+        if (value != null) {
+            parameters.put(name, value);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
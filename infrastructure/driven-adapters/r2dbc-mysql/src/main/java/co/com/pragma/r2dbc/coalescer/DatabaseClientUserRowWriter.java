@@ -0,0 +1,116 @@
+package co.com.pragma.r2dbc.coalescer;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.r2dbc.helper.DuplicateKeyErrorTranslator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class DatabaseClientUserRowWriter implements UserRowWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO user "
+            + "(name, last_name, email, id_number, birth_date, address, phone, role_id, base_salary) VALUES ";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<List<User>> insertAll(List<User> users) {
+        // The generated keys of a multi-row INSERT are only guaranteed consecutive with the legacy
+        // auto-increment lock modes, so they are read back through the unique id_number instead.
+        Mono<List<User>> insertAndResolveIds = bindRows(databaseClient.sql(insertSql(users.size())), users)
+                .then()
+                .then(selectIds(users))
+                .map(ids -> withIds(users, ids));
+        return transactionalOperator.transactional(insertAndResolveIds);
+    }
+
+    @Override
+    public Mono<User> insert(User user) {
+        return bindRows(databaseClient.sql(insertSql(1)), List.of(user))
+                .filter(statement -> statement.returnGeneratedValues("id_user"))
+                .map(row -> row.get("id_user", Long.class))
+                .one()
+                .map(idUser -> copyOf(user).setIdUser(idUser))
+                .onErrorMap(error -> DuplicateKeyErrorTranslator.translate(error, user));
+    }
+
+    private Mono<Map<String, Long>> selectIds(List<User> users) {
+        StringJoiner placeholders = new StringJoiner(", ", "SELECT id_user, id_number FROM user WHERE id_number IN (", ")");
+        for (int i = 0; i < users.size(); i++) {
+            placeholders.add(":idNumber" + i);
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(placeholders.toString());
+        for (int i = 0; i < users.size(); i++) {
+            spec = spec.bind("idNumber" + i, users.get(i).getIdNumber());
+        }
+        return spec
+                .map(row -> Map.entry(
+                        normalize(row.get("id_number", String.class)),
+                        row.get("id_user", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private static List<User> withIds(List<User> users, Map<String, Long> ids) {
+        List<User> saved = new ArrayList<>(users.size());
+        for (User user : users) {
+            Long idUser = ids.get(normalize(user.getIdNumber()));
+            if (idUser == null) {
+                throw new IllegalStateException("Inserted user " + user.getIdNumber() + " could not be read back");
+            }
+            saved.add(copyOf(user).setIdUser(idUser));
+        }
+        return saved;
+    }
+
+    private static String insertSql(int rows) {
+        StringJoiner values = new StringJoiner(", ", INSERT_PREFIX, "");
+        for (int i = 0; i < rows; i++) {
+            values.add("(:name" + i + ", :lastName" + i + ", :email" + i + ", :idNumber" + i
+                    + ", :birthDate" + i + ", :address" + i + ", :phone" + i + ", :roleId" + i
+                    + ", :baseSalary" + i + ")");
+        }
+        return values.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindRows(DatabaseClient.GenericExecuteSpec spec, List<User> users) {
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            spec = bind(spec, "name" + i, user.getName(), String.class);
+            spec = bind(spec, "lastName" + i, user.getLastName(), String.class);
+            spec = bind(spec, "email" + i, user.getEmail(), String.class);
+            spec = bind(spec, "idNumber" + i, user.getIdNumber(), String.class);
+            spec = bind(spec, "birthDate" + i, user.getBirthDate(), LocalDate.class);
+            spec = bind(spec, "address" + i, user.getAddress(), String.class);
+            spec = bind(spec, "phone" + i, user.getPhone(), String.class);
+            spec = bind(spec, "roleId" + i, user.getRoleId(), Byte.class);
+            spec = bind(spec, "baseSalary" + i, user.getBaseSalary(), BigDecimal.class);
+        }
+        return spec;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                          String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static User copyOf(User user) {
+        return new User(user.getIdUser(), user.getName(), user.getLastName(), user.getEmail(), user.getIdNumber(),
+                user.getBirthDate(), user.getAddress(), user.getPhone(), user.getRoleId(), user.getBaseSalary());
+    }
+
+    private static String normalize(String idNumber) {
+        return idNumber == null ? "" : idNumber.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,144 @@
+package co.com.pragma.r2dbc.coalescer;
+
+import co.com.pragma.model.user.entities.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gathers concurrent single-user inserts for up to {@code maxWait} or {@code maxBatchSize} users and writes them
+ * with one multi-row INSERT in one transaction. Every caller still receives its own user with the generated
+ * idUser, or its own error: when the batch fails (e.g. one duplicated email) its users are retried one by one.
+ * <p>
+ * The batch runs in its own transaction, not in the caller's one, so callers must not wrap the insert in a
+ * transaction of their own: each would hold a pooled connection while its batch waits for another one, which
+ * exhausts the pool once there are as many waiting callers as connections. When {@code maxQueueDepth} inserts
+ * are already waiting, new ones bypass the queue and are written directly.
+ */
+public class UserInsertCoalescer implements MeterBinder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "users.insert.coalescer";
+
+    private final UserRowWriter writer;
+    private final int maxQueueDepth;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong batchFallbacks = new AtomicLong();
+    private final AtomicLong bypassedInserts = new AtomicLong();
+    private final Disposable pipeline;
+    private volatile FluxSink<PendingInsert> sink;
+    private volatile DistributionSummary batchSizes;
+    private volatile Timer queueWaits;
+
+    public UserInsertCoalescer(UserRowWriter writer, int maxBatchSize, Duration maxWait,
+                               int maxQueueDepth, int maxConcurrentBatches) {
+        if (maxBatchSize <= 0 || maxQueueDepth <= 0 || maxConcurrentBatches <= 0) {
+            throw new IllegalArgumentException("maxBatchSize, maxQueueDepth and maxConcurrentBatches must be greater than 0");
+        }
+        this.writer = writer;
+        this.maxQueueDepth = maxQueueDepth;
+        this.pipeline = Flux.<PendingInsert>create(emitter -> this.sink = emitter)
+                .bufferTimeout(maxBatchSize, maxWait, true)
+                .flatMap(this::flush, maxConcurrentBatches)
+                .subscribe();
+    }
+
+    public Mono<User> insert(User user) {
+        return Mono.defer(() -> {
+            if (queueDepth.incrementAndGet() > maxQueueDepth) {
+                queueDepth.decrementAndGet();
+                bypassedInserts.incrementAndGet();
+                return writer.insert(user);
+            }
+            return Mono.<User>create(result -> sink.next(new PendingInsert(user, result, System.nanoTime())));
+        });
+    }
+
+    public int queueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public void close() {
+        sink.complete();
+        pipeline.dispose();
+    }
+
+    private Mono<Void> flush(List<PendingInsert> batch) {
+        queueDepth.addAndGet(-batch.size());
+        record(batch);
+
+        if (batch.size() == 1) {
+            return insertIndividually(batch.get(0));
+        }
+        List<User> users = batch.stream().map(PendingInsert::user).toList();
+        return writer.insertAll(users)
+                .doOnNext(saved -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().success(saved.get(i));
+                    }
+                })
+                .then()
+                .onErrorResume(error -> {
+                    batchFallbacks.incrementAndGet();
+                    return Flux.fromIterable(batch)
+                            .concatMap(this::insertIndividually)
+                            .then();
+                });
+    }
+
+    private Mono<Void> insertIndividually(PendingInsert pending) {
+        return writer.insert(pending.user())
+                .doOnNext(pending.result()::success)
+                .switchIfEmpty(Mono.fromRunnable(pending.result()::success))
+                .doOnError(pending.result()::error)
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void record(List<PendingInsert> batch) {
+        DistributionSummary sizes = batchSizes;
+        Timer waits = queueWaits;
+        if (sizes == null || waits == null) {
+            return;
+        }
+        sizes.record(batch.size());
+        long now = System.nanoTime();
+        batch.forEach(pending -> waits.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        batchSizes = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Users written per multi-row INSERT")
+                .register(registry);
+        queueWaits = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time an insert waited in the queue before its batch was written")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queueDepth, AtomicInteger::get)
+                .description("Inserts waiting to be batched")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".batch.fallbacks", batchFallbacks, AtomicLong::get)
+                .description("Batches that failed and were retried row by row")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".bypassed", bypassedInserts, AtomicLong::get)
+                .description("Inserts written directly because the queue was full")
+                .register(registry);
+    }
+
+    private record PendingInsert(User user, MonoSink<User> result, long enqueuedAt) {
+    }
+}
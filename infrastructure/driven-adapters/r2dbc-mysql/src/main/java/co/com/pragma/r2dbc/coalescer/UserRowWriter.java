@@ -0,0 +1,24 @@
+package co.com.pragma.r2dbc.coalescer;
+
+import co.com.pragma.model.user.entities.User;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Writes user rows for {@link UserInsertCoalescer}.
+ */
+public interface UserRowWriter {
+
+    /**
+     * Inserts all users with one multi-row INSERT in one transaction.
+     *
+     * @return the users with their generated idUser, in the same order; fails as a whole if any row fails.
+     */
+    Mono<List<User>> insertAll(List<User> users);
+
+    /**
+     * Inserts a single user, failing with a translated duplicate-key error when applicable.
+     */
+    Mono<User> insert(User user);
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EntityMapperConfig {
+
+    /**
+     * Without this bean (generated-mappers: false) the adapter falls back to the reflective ObjectMapper.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "adapters.r2dbc", name = "generated-mappers", havingValue = "true",
+            matchIfMissing = true)
+    public UserEntityMapper userEntityMapper() {
+        return Mappers.getMapper(UserEntityMapper.class);
+    }
+}
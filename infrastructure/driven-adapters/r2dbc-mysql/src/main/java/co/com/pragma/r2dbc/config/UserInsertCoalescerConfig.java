@@ -0,0 +1,26 @@
+package co.com.pragma.r2dbc.config;
+
+import co.com.pragma.r2dbc.coalescer.DatabaseClientUserRowWriter;
+import co.com.pragma.r2dbc.coalescer.UserInsertCoalescer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Configuration
+public class UserInsertCoalescerConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "adapters.r2dbc.insert-coalescer", name = "enabled", havingValue = "true")
+    public UserInsertCoalescer userInsertCoalescer(DatabaseClient databaseClient,
+                                                   TransactionalOperator transactionalOperator,
+                                                   UserInsertCoalescerProperties properties) {
+        return new UserInsertCoalescer(
+                new DatabaseClientUserRowWriter(databaseClient, transactionalOperator),
+                properties.maxBatchSize(),
+                properties.maxWait(),
+                properties.maxQueueDepth(),
+                properties.maxConcurrentBatches());
+    }
+}
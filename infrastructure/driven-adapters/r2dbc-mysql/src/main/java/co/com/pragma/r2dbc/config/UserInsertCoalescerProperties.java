@@ -0,0 +1,32 @@
+package co.com.pragma.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.insert-coalescer")
+public record UserInsertCoalescerProperties(
+        Boolean enabled,
+        Integer maxBatchSize,
+        Duration maxWait,
+        Integer maxQueueDepth,
+        Integer maxConcurrentBatches) {
+
+    public UserInsertCoalescerProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (maxBatchSize == null) {
+            maxBatchSize = 50;
+        }
+        if (maxWait == null) {
+            maxWait = Duration.ofMillis(5);
+        }
+        if (maxQueueDepth == null) {
+            maxQueueDepth = 10_000;
+        }
+        if (maxConcurrentBatches == null) {
+            maxConcurrentBatches = 4;
+        }
+    }
+}
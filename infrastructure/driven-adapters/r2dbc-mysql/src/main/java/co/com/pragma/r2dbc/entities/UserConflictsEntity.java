@@ -0,0 +1,23 @@
+package co.com.pragma.r2dbc.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+/**
+ * Projection of the uniqueness check query. MySQL returns EXISTS(...) as an integer (0/1).
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserConflictsEntity {
+    @Column("id_user_taken")
+    private Long idUserTaken;
+    @Column("email_taken")
+    private Long emailTaken;
+    @Column("id_number_taken")
+    private Long idNumberTaken;
+}
@@ -0,0 +1,31 @@
+package co.com.pragma.r2dbc.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the stats query: the users of a role whose salaries fall in the same bucket.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatsGroupEntity {
+    @Column("role_id")
+    private Byte roleId;
+    @Column("salary_bucket")
+    private Integer salaryBucket;
+    @Column("user_count")
+    private Long userCount;
+    @Column("salary_min")
+    private BigDecimal salaryMin;
+    @Column("salary_max")
+    private BigDecimal salaryMax;
+    @Column("salary_sum")
+    private BigDecimal salarySum;
+}
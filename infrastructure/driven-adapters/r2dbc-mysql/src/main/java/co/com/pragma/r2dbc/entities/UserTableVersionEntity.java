@@ -0,0 +1,21 @@
+package co.com.pragma.r2dbc.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.relational.core.mapping.Column;
+
+/**
+ * Projection of the table version query.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserTableVersionEntity {
+    @Column("max_id_user")
+    private Long maxIdUser;
+    @Column("user_count")
+    private Long userCount;
+}
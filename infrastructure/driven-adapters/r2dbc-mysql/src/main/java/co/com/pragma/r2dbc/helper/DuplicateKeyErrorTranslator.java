@@ -0,0 +1,108 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import io.r2dbc.spi.R2dbcException;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates MySQL duplicate-key errors (ER_DUP_ENTRY, 1062) raised while inserting a user
+ * into the domain {@link UserAlreadyExistsException}, resolving the field from the violated index name.
+ */
+public final class DuplicateKeyErrorTranslator {
+
+    public static final int ER_DUP_ENTRY = 1062;
+
+    private static final Pattern KEY_NAME = Pattern.compile("for key '([^']+)'");
+    private static final Pattern ENTRY = Pattern.compile("Duplicate entry '(.*)' for key");
+
+    private DuplicateKeyErrorTranslator() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    public static Throwable translate(Throwable error, User user) {
+        R2dbcException duplicateEntry = findDuplicateEntry(error);
+        if (duplicateEntry == null) {
+            return error;
+        }
+
+        String keyName = extractKeyName(duplicateEntry.getMessage());
+        if (keyName.equals("primary")) {
+            return UserAlreadyExistsException.byIdUser(user.getIdUser());
+        }
+        if (keyName.contains("email")) {
+            return UserAlreadyExistsException.byEmail(user.getEmail());
+        }
+        if (keyName.contains("id_number") || keyName.contains("idnumber")) {
+            return UserAlreadyExistsException.byIdNumber(user.getIdNumber());
+        }
+        return UserAlreadyExistsException.unknownKey();
+    }
+
+    /**
+     * Variant for multi-row inserts, where the offending user is only known through the duplicated value
+     * reported by MySQL.
+     */
+    public static Throwable translate(Throwable error) {
+        R2dbcException duplicateEntry = findDuplicateEntry(error);
+        if (duplicateEntry == null) {
+            return error;
+        }
+
+        String message = duplicateEntry.getMessage();
+        Matcher entryMatcher = ENTRY.matcher(message == null ? "" : message);
+        String entry = entryMatcher.find() ? entryMatcher.group(1) : null;
+        if (extractKeyName(message).equals("primary")) {
+            Long idUser = parseIdUser(entry);
+            return idUser != null
+                    ? UserAlreadyExistsException.byIdUser(idUser)
+                    : UserAlreadyExistsException.unknownKey();
+        }
+        return translate(error, new User().setEmail(entry).setIdNumber(entry));
+    }
+
+    /**
+     * The duplicated value of the primary key, or {@code null} when MySQL reported something that is not an idUser.
+     */
+    private static Long parseIdUser(String entry) {
+        if (entry == null || entry.isEmpty() || !entry.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(entry);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static R2dbcException findDuplicateEntry(Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof R2dbcException r2dbcException
+                    && r2dbcException.getErrorCode() == ER_DUP_ENTRY) {
+                return r2dbcException;
+            }
+            current = current.getCause() == current ? null : current.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * MySQL 8 reports the key as {@code table.index} (e.g. {@code user.email}), older versions only the index.
+     */
+    static String extractKeyName(String message) {
+        if (message == null) {
+            return "";
+        }
+        Matcher matcher = KEY_NAME.matcher(message);
+        if (!matcher.find()) {
+            return "";
+        }
+        String key = matcher.group(1);
+        int dot = key.lastIndexOf('.');
+        return (dot >= 0 ? key.substring(dot + 1) : key).toLowerCase(Locale.ROOT);
+    }
+}
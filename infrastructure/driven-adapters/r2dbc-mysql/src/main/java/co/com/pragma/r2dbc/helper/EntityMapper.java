@@ -0,0 +1,12 @@
+package co.com.pragma.r2dbc.helper;
+
+/**
+ * Conversion between a domain entity {@code E} and its persistence representation {@code D}, used by
+ * {@link ReactiveAdapterOperations} instead of the reflective {@code ObjectMapper} when one is provided.
+ */
+public interface EntityMapper<E, D> {
+
+    D toData(E entity);
+
+    E toEntity(D data);
+}
@@ -15,22 +15,36 @@ public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudR
     protected ObjectMapper mapper;
     private final Class<D> dataClass;
     private final Function<D, E> toEntityFn;
+    private final EntityMapper<E, D> entityMapper;
 
-    @SuppressWarnings("unchecked")
     protected ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<D, E> toEntityFn) {
+        this(repository, mapper, toEntityFn, null);
+    }
+
+    /**
+     * @param entityMapper generated mapper used in both directions; when {@code null} the reflective
+     *                     {@code mapper} and {@code toEntityFn} are used instead.
+     */
+    @SuppressWarnings("unchecked")
+    protected ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<D, E> toEntityFn,
+                                        EntityMapper<E, D> entityMapper) {
         this.repository = repository;
         this.mapper = mapper;
         ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
         this.dataClass = (Class<D>) genericSuperclass.getActualTypeArguments()[1];
         this.toEntityFn = toEntityFn;
+        this.entityMapper = entityMapper;
     }
 
     protected D toData(E entity) {
-        return mapper.map(entity, dataClass);
+        return entityMapper != null ? entityMapper.toData(entity) : mapper.map(entity, dataClass);
     }
 
     protected E toEntity(D data) {
-        return data != null ? toEntityFn.apply(data) : null;
+        if (data == null) {
+            return null;
+        }
+        return entityMapper != null ? entityMapper.toEntity(data) : toEntityFn.apply(data);
     }
 
     public Mono<E> save(E entity) {
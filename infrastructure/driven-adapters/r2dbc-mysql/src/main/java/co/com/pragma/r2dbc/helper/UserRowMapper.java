@@ -0,0 +1,79 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserField;
+import io.r2dbc.spi.Row;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the selected columns of a {@code user} row straight into a {@link User}, by position: the query must
+ * select {@link #columns()} in that order. Columns that were not selected stay {@code null}.
+ * <p>
+ * One mapper per distinct projection is built and cached by {@link #of(Set)}, so per row there is no column
+ * name resolution and no intermediate {@code UserEntity}.
+ */
+public final class UserRowMapper {
+
+    private static final Map<Set<UserField>, UserRowMapper> CACHE = new ConcurrentHashMap<>();
+
+    private final UserField[] fields;
+    private final String columns;
+
+    private UserRowMapper(Set<UserField> fields) {
+        this.fields = fields.toArray(UserField[]::new);
+        StringJoiner joiner = new StringJoiner(", ");
+        for (UserField field : this.fields) {
+            joiner.add(column(field));
+        }
+        this.columns = joiner.toString();
+    }
+
+    /**
+     * @return the cached mapper of the projection; at most one per subset of {@link UserField}.
+     */
+    public static UserRowMapper of(Set<UserField> fields) {
+        Set<UserField> key = fields.isEmpty() ? EnumSet.noneOf(UserField.class) : EnumSet.copyOf(fields);
+        return CACHE.computeIfAbsent(key, UserRowMapper::new);
+    }
+
+    /**
+     * Comma-separated select list, in the positions {@link #map(Row)} reads.
+     */
+    public String columns() {
+        return columns;
+    }
+
+    public User map(Row row) {
+        User user = new User();
+        for (int i = 0; i < fields.length; i++) {
+            switch (fields[i]) {
+                case ID_USER -> user.setIdUser(row.get(i, Long.class));
+                case NAME -> user.setName(row.get(i, String.class));
+                case LAST_NAME -> user.setLastName(row.get(i, String.class));
+                case EMAIL -> user.setEmail(row.get(i, String.class));
+                case ID_NUMBER -> user.setIdNumber(row.get(i, String.class));
+                case BIRTH_DATE -> user.setBirthDate(row.get(i, LocalDate.class));
+                case ADDRESS -> user.setAddress(row.get(i, String.class));
+                case PHONE -> user.setPhone(row.get(i, String.class));
+                case ROLE_ID -> user.setRoleId(row.get(i, Byte.class));
+                case BASE_SALARY -> user.setBaseSalary(row.get(i, BigDecimal.class));
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Column of the {@code user} table holding the field; the snake_case name of the constant.
+     */
+    public static String column(UserField field) {
+        return field.name().toLowerCase(Locale.ROOT);
+    }
+}
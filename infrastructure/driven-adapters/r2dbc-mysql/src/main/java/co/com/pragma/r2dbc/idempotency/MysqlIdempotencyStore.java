@@ -0,0 +1,98 @@
+package co.com.pragma.r2dbc.idempotency;
+
+import co.com.pragma.model.idempotency.entities.IdempotentResponse;
+import co.com.pragma.model.idempotency.ports.IIdempotencyStorePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idempotency store shared by every node, backed by:
+ * <pre>
+ * CREATE TABLE idempotency_key (
+ *     idempotency_key VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     request_hash    CHAR(64)     NOT NULL,
+ *     status_code     SMALLINT     NOT NULL,
+ *     content_type    VARCHAR(255) NULL,
+ *     location        VARCHAR(2048) NULL,
+ *     body            MEDIUMBLOB   NOT NULL,
+ *     expires_at      DATETIME(3)  NOT NULL,
+ *     INDEX idx_idempotency_key_expires_at (expires_at)
+ * );
+ * </pre>
+ * Expired rows are never replayed and are purged in small batches every {@value #PURGE_EVERY_SAVES} saves.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "mysql")
+public class MysqlIdempotencyStore implements IIdempotencyStorePort {
+
+    static final int PURGE_EVERY_SAVES = 100;
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+    private final AtomicLong saves = new AtomicLong();
+
+    public MysqlIdempotencyStore(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return databaseClient.sql("""
+                        SELECT request_hash, status_code, content_type, location, body
+                        FROM idempotency_key
+                        WHERE idempotency_key = :key AND expires_at > NOW(3)
+                        """)
+                .bind("key", key)
+                .map(row -> new IdempotentResponse(
+                        row.get("request_hash", String.class),
+                        row.get("status_code", Integer.class),
+                        row.get("content_type", String.class),
+                        row.get("location", String.class),
+                        row.get("body", byte[].class)))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> save(String key, IdempotentResponse response, Duration ttl) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql("""
+                        INSERT INTO idempotency_key
+                            (idempotency_key, request_hash, status_code, content_type, location, body, expires_at)
+                        VALUES (:key, :requestHash, :statusCode, :contentType, :location, :body,
+                                TIMESTAMPADD(SECOND, :ttlSeconds, NOW(3)))
+                        ON DUPLICATE KEY UPDATE
+                            request_hash = VALUES(request_hash),
+                            status_code = VALUES(status_code),
+                            content_type = VALUES(content_type),
+                            location = VALUES(location),
+                            body = VALUES(body),
+                            expires_at = VALUES(expires_at)
+                        """)
+                .bind("key", key)
+                .bind("requestHash", response.getRequestHash())
+                .bind("statusCode", response.getStatusCode())
+                .bind("body", response.getBody())
+                .bind("ttlSeconds", ttl.toSeconds());
+        insert = response.getContentType() != null
+                ? insert.bind("contentType", response.getContentType())
+                : insert.bindNull("contentType", String.class);
+        insert = response.getLocation() != null
+                ? insert.bind("location", response.getLocation())
+                : insert.bindNull("location", String.class);
+
+        return insert.then()
+                .then(Mono.defer(() -> saves.incrementAndGet() % PURGE_EVERY_SAVES == 0
+                        ? purgeExpired()
+                        : Mono.empty()));
+    }
+
+    private Mono<Void> purgeExpired() {
+        return databaseClient.sql("DELETE FROM idempotency_key WHERE expires_at < NOW(3) LIMIT " + PURGE_BATCH_SIZE)
+                .then()
+                .onErrorResume(error -> Mono.empty());
+    }
+}
@@ -0,0 +1,20 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.r2dbc.entities.UserEntity;
+import co.com.pragma.r2dbc.helper.EntityMapper;
+import org.mapstruct.Mapper;
+
+/**
+ * Field-by-field {@link User} / {@link UserEntity} mapping generated at compile time, with no reflection or
+ * intermediate copies per row.
+ */
+@Mapper
+public interface UserEntityMapper extends EntityMapper<User, UserEntity> {
+
+    @Override
+    UserEntity toData(User user);
+
+    @Override
+    User toEntity(UserEntity entity);
+}
@@ -1,24 +1,42 @@
 package co.com.pragma.r2dbc;
 
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.r2dbc.coalescer.UserInsertCoalescer;
+import co.com.pragma.r2dbc.entities.UserConflictsEntity;
 import co.com.pragma.r2dbc.entities.UserEntity;
+import co.com.pragma.r2dbc.entities.UserStatsGroupEntity;
+import co.com.pragma.r2dbc.mapper.UserEntityMapper;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.reactivecommons.utils.ObjectMapper;
 import org.reactivecommons.utils.ObjectMapperImp;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -78,6 +96,53 @@ class IUserEntityRepositoryPortAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    void saveUser_WithGeneratedMapper_ShouldMapBothWays() {
+        // Arrange
+        adapter = new IUserEntityRepositoryPortAdapter(repository, mapper, (UserInsertCoalescer) null,
+                Mappers.getMapper(UserEntityMapper.class));
+        when(repository.save(argThat((UserEntity entity) -> entity.getIdNumber().equals("ID123"))))
+                .thenReturn(Mono.just(testUserEntity));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveUser(testUser))
+                .expectNextMatches(savedUser ->
+                        savedUser.getIdUser().equals(123L) && savedUser.getEmail().equals("test@example.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    void saveUser_WhenEmailIsDuplicated_ShouldReturnUserAlreadyExists() {
+        // Arrange
+        when(repository.save(any(UserEntity.class))).thenReturn(Mono.error(
+                new R2dbcDataIntegrityViolationException(
+                        "Duplicate entry 'test@example.com' for key 'user.email'", "23000", 1062)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveUser(testUser))
+                .expectErrorMatches(error ->
+                        error instanceof UserAlreadyExistsException &&
+                                error.getMessage().equals("User with email test@example.com already exists"))
+                .verify();
+    }
+
+    @Test
+    void saveUser_WithInsertCoalescer_ShouldDelegateNewUsersToCoalescer() {
+        // Arrange
+        UserInsertCoalescer insertCoalescer = mock(UserInsertCoalescer.class);
+        adapter = new IUserEntityRepositoryPortAdapter(repository, mapper, insertCoalescer);
+        User newUser = new User().setEmail("new@example.com").setIdNumber("ID999");
+        User savedUser = new User().setIdUser(321L).setEmail("new@example.com").setIdNumber("ID999");
+        when(insertCoalescer.insert(newUser)).thenReturn(Mono.just(savedUser));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveUser(newUser))
+                .expectNext(savedUser)
+                .verifyComplete();
+
+        verify(repository, never()).save(any(UserEntity.class));
+    }
+
     @Test
     void existsByIdUser_WhenUserExists_ShouldReturnTrue() {
         // Arrange
@@ -132,4 +197,161 @@ class IUserEntityRepositoryPortAdapterTest {
                 .expectNext(false)
                 .verifyComplete();
     }
+
+    @Test
+    void findConflicts_WhenEmailIsTaken_ShouldFlagOnlyEmail() {
+        // Arrange
+        when(repository.findConflicts(123L, "test@example.com", "ID123"))
+                .thenReturn(Mono.just(new UserConflictsEntity(0L, 1L, 0L)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findConflicts(testUser))
+                .expectNextMatches(conflicts ->
+                        !conflicts.isIdUserTaken() &&
+                                conflicts.isEmailTaken() &&
+                                !conflicts.isIdNumberTaken())
+                .verifyComplete();
+    }
+
+    @Test
+    void findConflicts_WhenQueryReturnsNoRow_ShouldReturnNoConflicts() {
+        // Arrange
+        when(repository.findConflicts(any(), anyString(), anyString())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findConflicts(testUser))
+                .expectNextMatches(conflicts -> !conflicts.hasAny())
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllUsers_ShouldReturnSavedUsers() {
+        // Arrange
+        when(repository.saveAll(any(Flux.class))).thenReturn(Flux.just(testUserEntity));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveAllUsers(Flux.just(testUser)))
+                .expectNextMatches(savedUser -> savedUser.getEmail().equals(testUser.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllUsers_WhenIdNumberIsDuplicated_ShouldReturnUserAlreadyExists() {
+        // Arrange
+        when(repository.saveAll(any(Flux.class))).thenReturn(Flux.error(
+                new R2dbcDataIntegrityViolationException(
+                        "Duplicate entry 'ID123' for key 'user.id_number'", "23000", 1062)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.saveAllUsers(Flux.just(testUser)))
+                .expectErrorMatches(error ->
+                        error instanceof UserAlreadyExistsException &&
+                                error.getMessage().equals("User with idNumber ID123 already exists"))
+                .verify();
+    }
+
+    @Test
+    void findByEmailsOrIdNumbers_ShouldReturnMatchingUsers() {
+        // Arrange
+        when(repository.findUsersByEmailsOrIdNumbers(List.of("test@example.com"), List.of("ID123")))
+                .thenReturn(Flux.just(testUser));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByEmailsOrIdNumbers(List.of("test@example.com"), List.of("ID123")))
+                .expectNextMatches(user -> user.getIdNumber().equals("ID123"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findByEmailsOrIdNumbers_WhenNoKeys_ShouldNotQuery() {
+        // Act & Assert
+        StepVerifier.create(adapter.findByEmailsOrIdNumbers(List.of(), List.of()))
+                .verifyComplete();
+
+        verify(repository, never()).findUsersByEmailsOrIdNumbers(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void findUsers_ShouldDelegateToProjectedQuery() {
+        // Arrange
+        UserQuery query = UserQuery.all().withFields(Set.of(UserField.EMAIL)).withLimit(11);
+        User projected = new User().setIdUser(1L).setEmail("test@example.com");
+        when(repository.findUsers(query)).thenReturn(Flux.just(projected));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findUsers(query))
+                .expectNext(projected)
+                .verifyComplete();
+    }
+
+    @Test
+    void findByIdNumber_ShouldReadRowsMappedToUser() {
+        // Arrange
+        when(repository.findUserByIdNumber("ID123")).thenReturn(Mono.just(testUser));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByIdNumber("ID123"))
+                .expectNextMatches(user -> user.getIdNumber().equals("ID123"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findByIdUser_ShouldReadRowsMappedToUser() {
+        // Arrange
+        when(repository.findUserByIdUser(1L)).thenReturn(Mono.just(testUser));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByIdUser(1L))
+                .expectNext(testUser)
+                .verifyComplete();
+    }
+
+    @Test
+    void findAll_ShouldUseDirectRowMapping() {
+        // Arrange
+        when(repository.findUsers(UserQuery.all())).thenReturn(Flux.just(testUser));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findAll())
+                .expectNext(testUser)
+                .verifyComplete();
+
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void findStats_ShouldFoldGroupsIntoStats() {
+        // Arrange
+        BigDecimal width = BigDecimal.valueOf(1_000_000);
+        when(repository.findStatsGroups(width, 14)).thenReturn(Flux.just(
+                new UserStatsGroupEntity((byte) 1, 1, 2L, new BigDecimal("1200000"), new BigDecimal("1800000"),
+                        new BigDecimal("3000000")),
+                new UserStatsGroupEntity((byte) 2, 14, 1L, new BigDecimal("15000000"), new BigDecimal("15000000"),
+                        new BigDecimal("15000000"))));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findStats(width, 15))
+                .expectNextMatches(stats -> stats.getTotal() == 3
+                        && stats.getUsersByRole().equals(Map.of((byte) 1, 2L, (byte) 2, 1L))
+                        && stats.getSalaryMin().compareTo(new BigDecimal("1200000")) == 0
+                        && stats.getSalaryMax().compareTo(new BigDecimal("15000000")) == 0
+                        && stats.getSalaryAverage().compareTo(new BigDecimal("6000000")) == 0
+                        && stats.getSalaryHistogram()[1] == 2
+                        && stats.getSalaryHistogram()[14] == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    void findStats_WhenTableIsEmpty_ShouldReturnEmptyStats() {
+        // Arrange
+        BigDecimal width = BigDecimal.valueOf(1_000_000);
+        when(repository.findStatsGroups(width, 14)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findStats(width, 15))
+                .expectNextMatches(stats -> stats.getTotal() == 0
+                        && stats.getSalaryMin() == null
+                        && stats.getSalaryAverage() == null)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,72 @@
+package co.com.pragma.r2dbc;
+
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserQuery;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserQueryRepositoryImplTest {
+
+    @Test
+    void sql_WithProjection_ShouldSelectOnlyRequestedColumns() {
+        Map<String, Object> parameters = UserQueryRepositoryImpl.parameters(UserQuery.all().withLimit(10));
+
+        String sql = UserQueryRepositoryImpl.sql(
+                EnumSet.of(UserField.ID_USER, UserField.EMAIL, UserField.ID_NUMBER), parameters.keySet());
+
+        assertThat(sql).isEqualTo("SELECT id_user, email, id_number FROM user "
+                + "WHERE id_user > :afterIdUser ORDER BY id_user LIMIT :limit");
+    }
+
+    @Test
+    void keyQueries_ShouldSelectAllColumnsInMapperOrder() {
+        String columns = "id_user, name, last_name, email, id_number, birth_date, address, phone, role_id, "
+                + "base_salary";
+
+        assertThat(UserQueryRepositoryImpl.BY_ID_USER_SQL)
+                .isEqualTo("SELECT " + columns + " FROM user WHERE id_user = :idUser");
+        assertThat(UserQueryRepositoryImpl.BY_ID_NUMBER_SQL)
+                .isEqualTo("SELECT " + columns + " FROM user WHERE id_number = :idNumber");
+        assertThat(UserQueryRepositoryImpl.BY_EMAILS_OR_ID_NUMBERS_SQL)
+                .isEqualTo("SELECT " + columns + " FROM user WHERE email IN (:emails) OR id_number IN (:idNumbers)");
+    }
+
+    @Test
+    void sql_WithoutLimit_ShouldNotLimitRows() {
+        Map<String, Object> parameters = UserQueryRepositoryImpl.parameters(UserQuery.all());
+
+        String sql = UserQueryRepositoryImpl.sql(EnumSet.of(UserField.ID_USER), parameters.keySet());
+
+        assertThat(sql).isEqualTo("SELECT id_user FROM user WHERE id_user > :afterIdUser ORDER BY id_user");
+    }
+
+    @Test
+    void sql_WithFilters_ShouldAddParameterizedConditions() {
+        UserQuery query = UserQuery.all()
+                .withRoleId((byte) 2)
+                .withBaseSalary(BigDecimal.valueOf(1000), BigDecimal.valueOf(2000))
+                .withEmailDomain("pragma_co.com");
+        Map<String, Object> parameters = UserQueryRepositoryImpl.parameters(query);
+
+        String sql = UserQueryRepositoryImpl.sql(EnumSet.of(UserField.ID_USER), parameters.keySet());
+
+        assertThat(sql).isEqualTo("SELECT id_user FROM user WHERE id_user > :afterIdUser"
+                + " AND role_id = :roleId AND base_salary >= :baseSalaryMin AND base_salary <= :baseSalaryMax"
+                + " AND email LIKE :emailDomain ORDER BY id_user");
+        assertThat(parameters)
+                .containsEntry("afterIdUser", 0L)
+                .containsEntry("roleId", (byte) 2)
+                .containsEntry("emailDomain", "%@pragma\\_co.com");
+    }
+
+    @Test
+    void searchPrefix_ShouldUseFirstTermAndEscapeWildcards() {
+        assertThat(UserQueryRepositoryImpl.searchPrefix("  jua_n pérez")).isEqualTo("jua\\_n%");
+        assertThat(UserQueryRepositoryImpl.searchPrefix(" ")).isNull();
+    }
+}
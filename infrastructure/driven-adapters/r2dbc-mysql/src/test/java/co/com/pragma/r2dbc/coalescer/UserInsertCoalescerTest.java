@@ -0,0 +1,145 @@
+package co.com.pragma.r2dbc.coalescer;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserInsertCoalescerTest {
+
+    private final FakeWriter writer = new FakeWriter();
+    private UserInsertCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+    }
+
+    @Test
+    void insert_ConcurrentCalls_ShouldBeWrittenAsOneBatch() {
+        coalescer = new UserInsertCoalescer(writer, 3, Duration.ofSeconds(5), 100, 1);
+
+        StepVerifier.create(Flux.merge(
+                        coalescer.insert(user("1")), coalescer.insert(user("2")), coalescer.insert(user("3")))
+                        .collectList())
+                .assertNext(saved -> assertThat(saved)
+                        .extracting(User::getIdUser)
+                        .containsExactlyInAnyOrder(1L, 2L, 3L))
+                .verifyComplete();
+
+        assertThat(writer.batchSizes).containsExactly(3);
+    }
+
+    @Test
+    void insert_WhenWindowElapses_ShouldFlushPartialBatch() {
+        coalescer = new UserInsertCoalescer(writer, 50, Duration.ofMillis(20), 100, 1);
+
+        StepVerifier.create(coalescer.insert(user("1")))
+                .expectNextMatches(saved -> saved.getIdUser() == 1L && saved.getIdNumber().equals("1"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void insert_WhenBatchFails_ShouldCompleteEachCallerWithItsOwnOutcome() {
+        writer.duplicatedIdNumber = "2";
+        coalescer = new UserInsertCoalescer(writer, 2, Duration.ofSeconds(5), 100, 1);
+
+        Mono<User> first = coalescer.insert(user("1"));
+        Mono<User> second = coalescer.insert(user("2"));
+        List<Object> outcomes = new CopyOnWriteArrayList<>();
+
+        StepVerifier.create(Flux.merge(
+                        first.map(Object.class::cast).onErrorResume(e -> Mono.just(e)),
+                        second.map(Object.class::cast).onErrorResume(e -> Mono.just(e)))
+                        .doOnNext(outcomes::add))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(outcomes).anyMatch(outcome -> outcome instanceof User saved && saved.getIdNumber().equals("1"));
+        assertThat(outcomes).anyMatch(UserAlreadyExistsException.class::isInstance);
+    }
+
+    @Test
+    void insert_WhenQueueIsFull_ShouldWriteDirectly() {
+        coalescer = new UserInsertCoalescer(writer, 50, Duration.ofSeconds(5), 1, 1);
+        coalescer.insert(user("1")).subscribe();
+
+        StepVerifier.create(coalescer.insert(user("2")))
+                .expectNextMatches(saved -> saved.getIdNumber().equals("2"))
+                .verifyComplete();
+
+        assertThat(coalescer.queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_ShouldRecordBatchSizeAndQueueDepth() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer = new UserInsertCoalescer(writer, 2, Duration.ofSeconds(5), 100, 1);
+        coalescer.bindTo(registry);
+
+        StepVerifier.create(Flux.merge(coalescer.insert(user("1")), coalescer.insert(user("2"))))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(registry.get("users.insert.coalescer.batch.size").summary().max()).isEqualTo(2.0);
+        assertThat(registry.get("users.insert.coalescer.queue.depth").gauge().value()).isZero();
+        assertThat(registry.get("users.insert.coalescer.wait").timer().count()).isEqualTo(2);
+    }
+
+    private static User user(String idNumber) {
+        return new User()
+                .setName("Test")
+                .setEmail("user" + idNumber + "@example.com")
+                .setIdNumber(idNumber);
+    }
+
+    private static final class FakeWriter implements UserRowWriter {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile String duplicatedIdNumber;
+
+        @Override
+        public Mono<List<User>> insertAll(List<User> users) {
+            batchSizes.add(users.size());
+            if (users.stream().anyMatch(this::isDuplicated)) {
+                return Mono.error(new IllegalStateException("Duplicate entry"));
+            }
+            List<User> saved = new ArrayList<>();
+            users.forEach(user -> saved.add(withId(user)));
+            return Mono.just(saved);
+        }
+
+        @Override
+        public Mono<User> insert(User user) {
+            if (isDuplicated(user)) {
+                return Mono.error(UserAlreadyExistsException.byIdNumber(user.getIdNumber()));
+            }
+            return Mono.just(withId(user));
+        }
+
+        private boolean isDuplicated(User user) {
+            return user.getIdNumber().equals(duplicatedIdNumber);
+        }
+
+        private User withId(User user) {
+            return new User()
+                    .setIdUser(Long.valueOf(user.getIdNumber()))
+                    .setName(user.getName())
+                    .setEmail(user.getEmail())
+                    .setIdNumber(user.getIdNumber());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateKeyErrorTranslatorTest {
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User()
+                .setIdUser(7L)
+                .setEmail("test@example.com")
+                .setIdNumber("ID123");
+    }
+
+    @Test
+    void translate_WhenEmailIndexIsViolated_ShouldReturnEmailConflict() {
+        Throwable error = duplicateEntry("Duplicate entry 'test@example.com' for key 'user.email'");
+
+        Throwable result = DuplicateKeyErrorTranslator.translate(error, user);
+
+        assertThat(result)
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("User with email test@example.com already exists");
+    }
+
+    @Test
+    void translate_WhenIdNumberIndexIsWrappedBySpring_ShouldReturnIdNumberConflict() {
+        Throwable cause = duplicateEntry("Duplicate entry 'ID123' for key 'uk_user_id_number'");
+        Throwable error = new DuplicateKeyException("insert failed", cause);
+
+        Throwable result = DuplicateKeyErrorTranslator.translate(error, user);
+
+        assertThat(result)
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("User with idNumber ID123 already exists");
+    }
+
+    @Test
+    void translate_WhenPrimaryKeyIsViolated_ShouldReturnIdUserConflict() {
+        Throwable error = duplicateEntry("Duplicate entry '7' for key 'user.PRIMARY'");
+
+        Throwable result = DuplicateKeyErrorTranslator.translate(error, user);
+
+        assertThat(result).hasMessage("User with idUser 7 already exists");
+    }
+
+    @Test
+    void translate_WhenErrorIsNotDuplicateEntry_ShouldReturnSameError() {
+        Throwable error = new R2dbcDataIntegrityViolationException("Column 'email' cannot be null", "23000", 1048);
+
+        assertThat(DuplicateKeyErrorTranslator.translate(error, user)).isSameAs(error);
+    }
+
+    @Test
+    void translate_WithoutUser_ShouldResolveConflictFromDuplicatedEntry() {
+        Throwable error = duplicateEntry("Duplicate entry 'other@example.com' for key 'user.email'");
+
+        Throwable result = DuplicateKeyErrorTranslator.translate(error);
+
+        assertThat(result)
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("User with email other@example.com already exists");
+    }
+
+    @Test
+    void translate_WithoutUser_WhenLongNumericIdNumberIsDuplicated_ShouldReturnIdNumberConflict() {
+        Throwable error = duplicateEntry("Duplicate entry '12345678901234567890123' for key 'user.uk_user_id_number'");
+
+        Throwable result = DuplicateKeyErrorTranslator.translate(error);
+
+        assertThat(result)
+                .isInstanceOf(UserAlreadyExistsException.class)
+                .hasMessage("User with idNumber 12345678901234567890123 already exists");
+    }
+
+    @Test
+    void translate_WithoutUser_WhenPrimaryKeyIsDuplicated_ShouldReturnIdUserConflict() {
+        Throwable error = duplicateEntry("Duplicate entry '42' for key 'user.PRIMARY'");
+
+        assertThat(DuplicateKeyErrorTranslator.translate(error)).hasMessage("User with idUser 42 already exists");
+    }
+
+    @Test
+    void translate_WithoutUser_WhenPrimaryKeyEntryIsNotAnIdUser_ShouldStillReturnConflict() {
+        Throwable error = duplicateEntry("Duplicate entry '' for key 'user.PRIMARY'");
+
+        assertThat(DuplicateKeyErrorTranslator.translate(error)).isInstanceOf(UserAlreadyExistsException.class);
+    }
+
+    @Test
+    void extractKeyName_WithoutTablePrefix_ShouldReturnLowercaseIndex() {
+        assertThat(DuplicateKeyErrorTranslator.extractKeyName("Duplicate entry 'x' for key 'Email'"))
+                .isEqualTo("email");
+    }
+
+    private static R2dbcDataIntegrityViolationException duplicateEntry(String message) {
+        return new R2dbcDataIntegrityViolationException(message, "23000", DuplicateKeyErrorTranslator.ER_DUP_ENTRY);
+    }
+}
@@ -100,6 +100,32 @@ class ReactiveAdapterOperationsTest {
                 .verifyComplete();
     }
 
+    @Test
+    void save_WithEntityMapper_ShouldNotUseReflectiveMapper() {
+        EntityMapper<DummyEntity, DummyData> entityMapper = new EntityMapper<>() {
+            @Override
+            public DummyData toData(DummyEntity entity) {
+                return new DummyData(entity.getId(), entity.getName());
+            }
+
+            @Override
+            public DummyEntity toEntity(DummyData data) {
+                return DummyEntity.toEntity(data);
+            }
+        };
+        operations = new ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository>(
+                repository, mapper, data -> null, entityMapper) {};
+        DummyEntity entity = new DummyEntity("1", "test");
+        DummyData data = new DummyData("1", "test");
+
+        when(repository.save(data)).thenReturn(Mono.just(data));
+
+        StepVerifier.create(operations.save(entity))
+                .expectNext(entity)
+                .verifyComplete();
+        Mockito.verifyNoInteractions(mapper);
+    }
+
     static class DummyEntity {
         private String id;
         private String name;
@@ -0,0 +1,54 @@
+package co.com.pragma.r2dbc.helper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserField;
+import io.r2dbc.spi.Row;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRowMapperTest {
+
+    @Test
+    void of_ShouldCacheOneMapperPerProjection() {
+        // Given
+        UserRowMapper mapper = UserRowMapper.of(Set.of(UserField.EMAIL, UserField.ID_USER));
+
+        // When
+        UserRowMapper same = UserRowMapper.of(EnumSet.of(UserField.ID_USER, UserField.EMAIL));
+
+        // Then
+        assertThat(same).isSameAs(mapper);
+        assertThat(mapper.columns()).isEqualTo("id_user, email");
+    }
+
+    @Test
+    void map_ShouldReadColumnsByPosition() {
+        // Given
+        UserRowMapper mapper = UserRowMapper.of(EnumSet.of(UserField.ID_USER, UserField.EMAIL, UserField.BASE_SALARY));
+        Row row = mock(Row.class);
+        when(row.get(0, Long.class)).thenReturn(7L);
+        when(row.get(1, String.class)).thenReturn("test@example.com");
+        when(row.get(2, BigDecimal.class)).thenReturn(new BigDecimal("2500000"));
+
+        // When
+        User user = mapper.map(row);
+
+        // Then
+        assertThat(user.getIdUser()).isEqualTo(7L);
+        assertThat(user.getEmail()).isEqualTo("test@example.com");
+        assertThat(user.getBaseSalary()).isEqualByComparingTo("2500000");
+        assertThat(user.getName()).isNull();
+        verify(row, never()).get(anyString(), eq(String.class));
+    }
+}
@@ -0,0 +1,44 @@
+package co.com.pragma.r2dbc.mapper;
+
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.r2dbc.entities.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEntityMapperTest {
+
+    private final UserEntityMapper mapper = Mappers.getMapper(UserEntityMapper.class);
+
+    private final User user = new User(7L, "Ana", "Diaz", "ana@example.com", "1001",
+            LocalDate.of(1990, 5, 17), "Calle 1", "3001234567", (byte) 2, new BigDecimal("2500000.00"));
+
+    @Test
+    void toData_ShouldCopyEveryField() {
+        UserEntity entity = mapper.toData(user);
+
+        // same result as the reflective mapper it replaces
+        assertThat(entity).usingRecursiveComparison()
+                .isEqualTo(new ObjectMapperImp().map(user, UserEntity.class));
+        assertThat(entity.getIdUser()).isEqualTo(7L);
+        assertThat(entity.getBaseSalary()).isEqualByComparingTo("2500000.00");
+    }
+
+    @Test
+    void toEntity_ShouldRoundTrip() {
+        User mapped = mapper.toEntity(mapper.toData(user));
+
+        assertThat(mapped).usingRecursiveComparison().isEqualTo(user);
+    }
+
+    @Test
+    void nullInput_ShouldMapToNull() {
+        assertThat(mapper.toData(null)).isNull();
+        assertThat(mapper.toEntity(null)).isNull();
+    }
+}
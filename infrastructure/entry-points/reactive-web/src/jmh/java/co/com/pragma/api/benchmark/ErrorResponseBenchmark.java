@@ -0,0 +1,88 @@
+package co.com.pragma.api.benchmark;
+
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.web.exception.ApiError;
+import co.com.pragma.api.web.exception.ErrorResponse;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
+import co.com.pragma.model.user.exceptions.UserNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a {@link UserNotFoundException} into the JSON body of its 404 on a pooled Netty buffer: the
+ * former path (builder, Jackson to a {@code byte[]}, then wrap) against the pre-encoded template of
+ * {@link ErrorResponseWriter}. Run with {@code -prof gc} to compare the allocation rate as well.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String TRACE_ID = "6f1c2a9e-4b7d-4e21-9a43-0c5d8e7f1b2a";
+
+    private NettyDataBufferFactory bufferFactory;
+    private ObjectWriter jackson;
+    private ErrorResponseWriter template;
+    private UserNotFoundException exception;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        jackson = mapper.writerFor(ErrorResponse.class);
+        template = new ErrorResponseWriter(new JacksonFormats(mapper));
+        exception = new UserNotFoundException("42");
+    }
+
+    @Benchmark
+    public int jackson() throws JsonProcessingException {
+        ApiError error = ApiError.from(exception);
+        ErrorResponse response = ErrorResponse.builder()
+                .code(error.code().getCode())
+                .message(error.message())
+                .traceId(TRACE_ID)
+                .timestamp(Instant.now())
+                .build();
+        return release(bufferFactory.wrap(jackson.writeValueAsBytes(response)));
+    }
+
+    @Benchmark
+    public int template() throws JsonProcessingException {
+        return release(template.encode(bufferFactory, ApiError.from(exception), TRACE_ID,
+                MediaType.APPLICATION_JSON, Instant.now()));
+    }
+
+    private static int release(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
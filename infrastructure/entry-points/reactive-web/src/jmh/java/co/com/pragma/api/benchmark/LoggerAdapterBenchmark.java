@@ -0,0 +1,82 @@
+package co.com.pragma.api.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import co.com.pragma.api.logging.Slf4jLoggerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of the use case log calls of a registration ({@code info} with two arguments, {@code debug} with
+ * none) with logging on ({@code DEBUG}) and off ({@code WARN}): the former adapter, which always built the argument
+ * array with {@code Stream.concat}, against the level-guarded {@link Slf4jLoggerAdapter}. Events go to a no-op
+ * appender so that the numbers are the cost on the calling thread, not console I/O. Run with {@code -prof gc} to
+ * compare the allocation rate as well.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerAdapterBenchmark {
+
+    private static final String TRACE_ID = "6f1c2a9e-4b7d-4e21-9a43-0c5d8e7f1b2a";
+
+    @Param({"DEBUG", "WARN"})
+    public String level;
+
+    private Logger logger;
+    private Slf4jLoggerAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(Slf4jLoggerAdapter.class);
+        logger.setLevel(ch.qos.logback.classic.Level.toLevel(level));
+        logger.setAdditive(false);
+        NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(logger.getLoggerContext());
+        appender.start();
+        logger.addAppender(appender);
+        adapter = new Slf4jLoggerAdapter();
+    }
+
+    @Benchmark
+    public void streamConcat() {
+        legacyInfo(TRACE_ID, "Iniciando caso de uso de guardado de usuario. ID: {} | Email: {}",
+                123L, "john.doe@pragma.com.co");
+        legacyDebug(TRACE_ID, "Persistiendo usuario en repositorio");
+    }
+
+    @Benchmark
+    public void levelGuarded() {
+        adapter.info(TRACE_ID, "Iniciando caso de uso de guardado de usuario. ID: {} | Email: {}",
+                123L, "john.doe@pragma.com.co");
+        adapter.debug(TRACE_ID, "Persistiendo usuario en repositorio");
+    }
+
+    private void legacyInfo(String traceId, String message, Object... args) {
+        logger.info("TRACE_ID:{} - " + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray());
+    }
+
+    private void legacyDebug(String traceId, String message, Object... args) {
+        logger.debug("TRACE_ID:{} - " + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray());
+    }
+}
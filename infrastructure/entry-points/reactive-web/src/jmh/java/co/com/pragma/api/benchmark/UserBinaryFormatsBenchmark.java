@@ -0,0 +1,109 @@
+package co.com.pragma.api.benchmark;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.dto.UserPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode throughput and payload size of the service-to-service bodies in JSON, CBOR and Smile: the
+ * {@link UserDTO} of {@code POST /api/v1/users} and a {@link UserPageDTO} of 100 users from
+ * {@code GET /api/v1/users}. The payload sizes are printed once per trial.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserBinaryFormatsBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectReader userReader;
+    private ObjectWriter userWriter;
+    private ObjectReader pageReader;
+    private ObjectWriter pageWriter;
+
+    private UserDTO user;
+    private UserPageDTO page;
+    private byte[] userBytes;
+    private byte[] pageBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper json = new ObjectMapper().registerModule(new JavaTimeModule());
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        userReader = mapper.readerFor(UserDTO.class);
+        userWriter = mapper.writerFor(UserDTO.class);
+        pageReader = mapper.readerFor(UserPageDTO.class);
+        pageWriter = mapper.writerFor(UserPageDTO.class);
+
+        List<UserDTO> users = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            users.add(user(i));
+        }
+        user = users.get(0);
+        page = new UserPageDTO(users, "MTAw");
+        userBytes = userWriter.writeValueAsBytes(user);
+        pageBytes = pageWriter.writeValueAsBytes(page);
+        System.out.printf("%n%s: user %d bytes, page of 100 %d bytes%n", format, userBytes.length, pageBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws IOException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public UserDTO decodeUser() throws IOException {
+        return userReader.readValue(userBytes);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public UserPageDTO decodePage() throws IOException {
+        return pageReader.readValue(pageBytes);
+    }
+
+    private static UserDTO user(int i) {
+        return new UserDTO(String.valueOf(10_000_000 + i), "Name" + i, "LastName" + i,
+                "user" + i + "@pragma.com.co", LocalDate.of(1980 + i % 30, 1 + i % 12, 1 + i % 28),
+                "Calle " + i + " # " + (i % 100) + "-" + (i % 50), "300" + (1_000_000 + i),
+                (byte) (1 + i % 3), BigDecimal.valueOf(1_000_000L + (i % 500) * 10_000L));
+    }
+}
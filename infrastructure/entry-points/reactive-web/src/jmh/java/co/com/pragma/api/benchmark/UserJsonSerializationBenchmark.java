@@ -0,0 +1,135 @@
+package co.com.pragma.api.benchmark;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.web.exception.ErrorResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the JSON hot paths: decoding a {@link UserDTO}, encoding it, encoding a page of 100 users and
+ * encoding an {@link ErrorResponse}. Every payload is handled through the {@code ObjectMapper} entry points (the
+ * former code) and through {@link ObjectReader}/{@link ObjectWriter} instances built once, with and without the
+ * Blackbird module.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserJsonSerializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader userReader;
+    private ObjectWriter userWriter;
+    private ObjectWriter userListWriter;
+    private ObjectWriter errorWriter;
+
+    private UserDTO user;
+    private byte[] userJson;
+    private List<UserDTO> page;
+    private ErrorResponse error;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        userReader = objectMapper.readerFor(UserDTO.class);
+        userWriter = objectMapper.writerFor(UserDTO.class);
+        userListWriter = objectMapper.writerFor(new TypeReference<List<UserDTO>>() {
+        });
+        errorWriter = objectMapper.writerFor(ErrorResponse.class);
+
+        user = user(0);
+        userJson = objectMapper.writeValueAsBytes(user);
+        page = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            page.add(user(i));
+        }
+        error = ErrorResponse.builder()
+                .code("VALIDATION_001")
+                .message("Validation failed")
+                .traceId("3f2b8c1e-5d4a-4e8b-9c7f-1a2b3c4d5e6f")
+                .timestamp(Instant.parse("2025-01-01T00:00:00Z"))
+                .errors(List.of(new ErrorResponse.FieldError("email", "Email is not valid")))
+                .build();
+    }
+
+    @Benchmark
+    public UserDTO readUserWithMapper() throws IOException {
+        return objectMapper.readValue(userJson, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO readUserWithReader() throws IOException {
+        return userReader.readValue(userJson);
+    }
+
+    @Benchmark
+    public byte[] writeUserWithMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writeUserWithWriter() throws IOException {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writePageWithMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writePageWithWriter() throws IOException {
+        return userListWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeErrorWithMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] writeErrorWithWriter() throws IOException {
+        return errorWriter.writeValueAsBytes(error);
+    }
+
+    private static UserDTO user(int i) {
+        return new UserDTO(String.valueOf(10_000_000 + i), "Name" + i, "LastName" + i,
+                "user" + i + "@pragma.com.co", LocalDate.of(1980 + i % 30, 1 + i % 12, 1 + i % 28),
+                "Calle " + i + " # " + (i % 100) + "-" + (i % 50), "300" + (1_000_000 + i),
+                (byte) (1 + i % 3), BigDecimal.valueOf(1_000_000L + (i % 500) * 10_000L));
+    }
+}
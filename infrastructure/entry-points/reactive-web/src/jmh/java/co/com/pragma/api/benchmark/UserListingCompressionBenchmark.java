@@ -0,0 +1,123 @@
+package co.com.pragma.api.benchmark;
+
+import co.com.pragma.api.dto.UserDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * CPU cost and bytes on the wire of compressing the user listing, for the JSON array returned by
+ * {@code GET /api/v1/users?all=true} and for the NDJSON stream, where every record is compressed and flushed on
+ * its own as Reactor Netty does. The compressed sizes are printed once per trial
+ * and leave out the 18 bytes of gzip header and trailer.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserListingCompressionBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int users;
+
+    private byte[] json;
+    private List<byte[]> ndjsonLines;
+    private final byte[] buffer = new byte[64 * 1024];
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        List<UserDTO> listing = new ArrayList<>(users);
+        ndjsonLines = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            UserDTO user = new UserDTO(String.valueOf(10_000_000 + i), "Name" + i, "LastName" + i,
+                    "user" + i + "@pragma.com.co", LocalDate.of(1980 + i % 30, 1 + i % 12, 1 + i % 28),
+                    "Calle " + i + " # " + (i % 100) + "-" + (i % 50), "300" + (1_000_000 + i),
+                    (byte) (1 + i % 3), BigDecimal.valueOf(1_000_000L + (i % 500) * 10_000L));
+            listing.add(user);
+            ndjsonLines.add((objectMapper.writeValueAsString(user) + "\n").getBytes());
+        }
+        json = objectMapper.writeValueAsBytes(listing);
+
+        System.out.printf("%n[%d users] identity: %d B | gzip-1: %d B | gzip-6: %d B | ndjson gzip-6 per record: %d B%n",
+                users, json.length, gzip(Deflater.BEST_SPEED), gzip(6), gzipStreaming());
+    }
+
+    @Benchmark
+    public long gzipLevel1() {
+        return gzip(Deflater.BEST_SPEED);
+    }
+
+    @Benchmark
+    public long gzipLevel6() {
+        return gzip(6);
+    }
+
+    @Benchmark
+    public long ndjsonGzipFlushedPerRecord() {
+        return gzipStreaming();
+    }
+
+    private long gzip(int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(json);
+            deflater.finish();
+            return finish(deflater);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Same as the NDJSON response: one SYNC_FLUSH per record so every line reaches the client right away.
+     */
+    private long gzipStreaming() {
+        Deflater deflater = new Deflater(6, true);
+        try {
+            long written = 0;
+            for (byte[] line : ndjsonLines) {
+                deflater.setInput(line);
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    written += count;
+                } while (count == buffer.length);
+            }
+            deflater.finish();
+            return written + finish(deflater);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private long finish(Deflater deflater) {
+        long written = 0;
+        while (!deflater.finished()) {
+            written += deflater.deflate(buffer);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.pragma.api.benchmark;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.helper.UserDTOValidator;
+import co.com.pragma.model.user.exceptions.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating the {@link UserDTO} of a registration with Hibernate Validator and with
+ * {@link UserDTOValidator}, for a valid DTO (the common case) and for one with two violations. Run with
+ * {@code -prof gc} to compare the allocation rate as well.
+ * <p>
+ * Run with {@code ./gradlew :reactive-web:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator jakarta;
+    private UserDTOValidator specialized;
+    private UserDTO valid;
+    private UserDTO invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        jakarta = factory.getValidator();
+        specialized = new UserDTOValidator(jakarta);
+        valid = new UserDTO("12345678", "John", "Doe", "john.doe@pragma.com.co", LocalDate.of(1990, 1, 1),
+                "Calle 12 # 34-56", "3006008080", (byte) 1, new BigDecimal("2500000.00"));
+        invalid = new UserDTO("12345678", "", "Doe", "john.doe@", LocalDate.of(1990, 1, 1),
+                "Calle 12 # 34-56", "3006008080", (byte) 1, new BigDecimal("2500000.00"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> jakartaValid() {
+        return jakarta.validate(valid);
+    }
+
+    @Benchmark
+    public List<ValidationException.FieldViolation> specializedValid() {
+        return specialized.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserDTO>> jakartaInvalid() {
+        return jakarta.validate(invalid);
+    }
+
+    @Benchmark
+    public List<ValidationException.FieldViolation> specializedInvalid() {
+        return specialized.validate(invalid);
+    }
+}
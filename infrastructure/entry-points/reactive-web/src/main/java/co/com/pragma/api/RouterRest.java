@@ -1,6 +1,11 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.idempotency.IdempotencyHandlerFilter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -11,17 +16,25 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RequestPredicate;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import java.util.List;
+
 import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
 import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RequestPredicates.headers;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 @Configuration
 public class RouterRest {
 
+    private static final List<MediaType> STREAMING_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
     @Bean
     @RouterOperations({
             @RouterOperation(
@@ -34,6 +47,12 @@ public class RouterRest {
                             summary = "Create a new user",
                             description = "Create a new user in the system",
                             tags = {"User Management"},
+                            parameters = @Parameter(
+                                    in = ParameterIn.HEADER,
+                                    name = IdempotencyHandlerFilter.IDEMPOTENCY_KEY_HEADER,
+                                    description = "Retries with the same key and body replay the first response",
+                                    required = false
+                            ),
                             requestBody = @RequestBody(
                                     description = "User data to be created",
                                     required = true,
@@ -51,38 +70,253 @@ public class RouterRest {
                                                     schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
                                             )
                                     ),
+                                    @ApiResponse(
+                                            responseCode = "202",
+                                            description = "Registration accepted for asynchronous processing (when users.async-registration.enabled)",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.pragma.api.dto.RegistrationStatusDTO.class)
+                                            )
+                                    ),
                                     @ApiResponse(responseCode = "400", description = "Invalid input"),
+                                    @ApiResponse(responseCode = "409", description = "User already exists, or a request with the same idempotency key is still running"),
+                                    @ApiResponse(responseCode = "422", description = "Idempotency key reused with a different body"),
                                     @ApiResponse(responseCode = "500", description = "Internal server error")
                             }
                     )
             ),
             @RouterOperation(
-                    path = "/api/v1/users",
+                    path = "/api/v1/users/batch",
+                    method = RequestMethod.POST,
+                    beanClass = UserHandler.class,
+                    beanMethod = "saveBatch",
+                    operation = @Operation(
+                            operationId = "createUsersBatch",
+                            summary = "Create users in bulk",
+                            description = "Registers one user per NDJSON line and streams back the outcome of each record",
+                            tags = {"User Management"},
+                            requestBody = @RequestBody(
+                                    description = "One user per line",
+                                    required = true,
+                                    content = @Content(
+                                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                            schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
+                                    )
+                            ),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Outcome of every record: CREATED, CONFLICT, INVALID or FAILED",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.pragma.api.dto.UserBatchResultDTO.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users/registrations/{trackingId}",
                     method = RequestMethod.GET,
                     beanClass = UserHandler.class,
-                    beanMethod = "getAllUsers",
+                    beanMethod = "getRegistrationStatus",
                     operation = @Operation(
-                            operationId = "getAllUsers",
-                            summary = "Get all users",
-                            description = "Retrieves a list of all users in the system",
+                            operationId = "getRegistrationStatus",
+                            summary = "Get the status of an asynchronous registration",
+                            tags = {"User Management"},
+                            parameters = @Parameter(in = ParameterIn.PATH, name = "trackingId", required = true),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Registration status",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.pragma.api.dto.RegistrationStatusDTO.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "404", description = "Unknown tracking id")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users/stats",
+                    method = RequestMethod.GET,
+                    beanClass = UserHandler.class,
+                    beanMethod = "getUserStats",
+                    operation = @Operation(
+                            operationId = "getUserStats",
+                            summary = "Get user aggregates",
+                            description = "Total users, users per role and base salary min/max/average and histogram. "
+                                    + "Maintained in memory and reconciled with the database periodically",
                             tags = {"User Management"},
                             responses = {
                                     @ApiResponse(
                                             responseCode = "200",
-                                            description = "Successfully retrieved list of users",
+                                            description = "User aggregates",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.pragma.api.dto.UserStatsDTO.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "500", description = "Internal server error")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users/search",
+                    method = RequestMethod.GET,
+                    beanClass = UserHandler.class,
+                    beanMethod = "searchUsers",
+                    operation = @Operation(
+                            operationId = "searchUsers",
+                            summary = "Search users by prefix",
+                            description = "Matches the start of the name, last name or email. Every word of q must "
+                                    + "match; results are ranked and capped",
+                            tags = {"User Management"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "q", required = true,
+                                            description = "Text typed by the user, e.g. 'juan per'"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "limit",
+                                            description = "Maximum results, between 1 and 50 (default 10)")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Matching users, best match first. Only id_number, name, "
+                                                    + "last_name and email are returned",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    array = @ArraySchema(schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class))
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Missing or too long q, or invalid limit")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users/{id}",
+                    method = RequestMethod.GET,
+                    beanClass = UserHandler.class,
+                    beanMethod = "getUserById",
+                    operation = @Operation(
+                            operationId = "getUserById",
+                            summary = "Get a user by id",
+                            tags = {"User Management"},
+                            parameters = @Parameter(in = ParameterIn.PATH, name = "id", required = true),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "User found",
                                             content = @Content(
                                                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                                                     schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
                                             )
                                     ),
+                                    @ApiResponse(responseCode = "400", description = "Invalid id"),
+                                    @ApiResponse(responseCode = "404", description = "User not found")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users/id-number/{idNumber}",
+                    method = RequestMethod.GET,
+                    beanClass = UserHandler.class,
+                    beanMethod = "getUserByIdNumber",
+                    operation = @Operation(
+                            operationId = "getUserByIdNumber",
+                            summary = "Get a user by id number",
+                            tags = {"User Management"},
+                            parameters = @Parameter(in = ParameterIn.PATH, name = "idNumber", required = true),
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "User found",
+                                            content = @Content(
+                                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                    schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
+                                            )
+                                    ),
+                                    @ApiResponse(responseCode = "404", description = "User not found")
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = "/api/v1/users",
+                    method = RequestMethod.GET,
+                    beanClass = UserHandler.class,
+                    beanMethod = "getAllUsers",
+                    operation = @Operation(
+                            operationId = "getAllUsers",
+                            summary = "Get users",
+                            description = "Retrieves users one page at a time ordered by registration. "
+                                    + "With all=true the whole list is returned without pagination",
+                            tags = {"User Management"},
+                            parameters = {
+                                    @Parameter(in = ParameterIn.QUERY, name = "limit",
+                                            description = "Page size, between 1 and 500 (default 50)"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "after",
+                                            description = "Opaque cursor returned as next_cursor by the previous page"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "all",
+                                            description = "Return every user as a plain array, without pagination"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "fields",
+                                            description = "Comma-separated fields to return, e.g. email,id_number"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "role_id", description = "Exact role"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "base_salary_min", description = "Inclusive lower salary bound"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "base_salary_max", description = "Inclusive upper salary bound"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "birth_date_from", description = "Inclusive lower birth date (yyyy-MM-dd)"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "birth_date_to", description = "Inclusive upper birth date (yyyy-MM-dd)"),
+                                    @Parameter(in = ParameterIn.QUERY, name = "email_domain", description = "Email domain, e.g. pragma.com.co")
+                            },
+                            responses = {
+                                    @ApiResponse(
+                                            responseCode = "200",
+                                            description = "Successfully retrieved users. With Accept application/x-ndjson "
+                                                    + "or text/event-stream every user is streamed as it is read",
+                                            content = {
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                                            schema = @Schema(implementation = co.com.pragma.api.dto.UserPageDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                                            schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
+                                                    ),
+                                                    @Content(
+                                                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                                            schema = @Schema(implementation = co.com.pragma.api.dto.UserDTO.class)
+                                                    )
+                                            }
+                                    ),
+                                    @ApiResponse(responseCode = "400", description = "Invalid limit, cursor, field or filter"),
                                     @ApiResponse(responseCode = "500", description = "Internal server error")
                             }
                     )
             )
     })
-    public RouterFunction<ServerResponse> routerFunction(UserHandler userHandler) {
-        return route(GET("/api/v1/users"), userHandler::getAllUsers)
+    public RouterFunction<ServerResponse> routerFunction(UserHandler userHandler,
+                                                         IdempotencyHandlerFilter idempotencyFilter) {
+        return route(GET("/api/v1/users").and(acceptsStream()), userHandler::streamUsers)
+                .and(route(GET("/api/v1/users"), userHandler::getAllUsers))
                 .and(route(POST("/api/v1/users")
-                        .and(accept(MediaType.APPLICATION_JSON)), userHandler::save));
+                        .and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+                                JacksonFormats.APPLICATION_SMILE)), userHandler::save)
+                        .filter(idempotencyFilter))
+                .and(route(POST("/api/v1/users/batch")
+                        .and(contentType(MediaType.APPLICATION_NDJSON)), userHandler::saveBatch))
+                .and(route(GET("/api/v1/users/registrations/{trackingId}"), userHandler::getRegistrationStatus))
+                .and(route(GET("/api/v1/users/stats"), userHandler::getUserStats))
+                .and(route(GET("/api/v1/users/search"), userHandler::searchUsers))
+                .and(route(GET("/api/v1/users/id-number/{idNumber}"), userHandler::getUserByIdNumber))
+                .and(route(GET("/api/v1/users/{id}"), userHandler::getUserById));
+    }
+
+    /**
+     * Matches only an explicit streaming media type: {@code accept()} would also match wildcards such as
+     * {@code *}{@code /*} and move every browser request to the streaming handler.
+     */
+    private static RequestPredicate acceptsStream() {
+        return headers(headers -> headers.accept().stream()
+                .anyMatch(type -> STREAMING_TYPES.stream().anyMatch(type::equalsTypeAndSubtype)));
     }
 }
@@ -1,64 +1,183 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.dto.RegistrationStatusDTO;
+import co.com.pragma.api.dto.UserBatchResultDTO;
 import co.com.pragma.api.dto.UserDTO;
-import co.com.pragma.api.exceptions.ExternalServiceException;
-import co.com.pragma.api.exceptions.RepositoryException;
+import co.com.pragma.api.dto.UserPageDTO;
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.helper.PageCursor;
+import co.com.pragma.api.helper.RequestBodyDecoder;
 import co.com.pragma.api.helper.ValidationUtil;
 import co.com.pragma.api.mapper.UserMapper;
-import co.com.pragma.api.web.exception.ErrorResponse;
-import co.com.pragma.api.web.exception.GlobalExceptionHandler;
-import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
-import co.com.pragma.model.user.exceptions.UserNotFoundException;
+import co.com.pragma.api.registration.AsyncRegistrationService;
+import co.com.pragma.api.web.exception.ApiError;
+import co.com.pragma.api.web.exception.ErrorCode;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import co.com.pragma.model.user.exceptions.ValidationException;
+import co.com.pragma.usecase.user.IUserBatchUseCase;
 import co.com.pragma.usecase.user.IUserUseCase;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserHandler {
+    private static final String REGISTRATIONS_PATH = "/api/v1/users/registrations/";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_SEARCH_LENGTH = 100;
+    private static final Pattern EMAIL_DOMAIN = Pattern.compile("[A-Za-z0-9.-]+");
+
     private final IUserUseCase userUseCase;
     private final ValidationUtil validator;
-    private final ObjectMapper objectMapper;
+    private final RequestBodyDecoder requestBodyDecoder;
+    private final IUserBatchUseCase userBatchUseCase;
+    private final AsyncRegistrationService asyncRegistrationService;
+    private final ErrorResponseWriter errorResponseWriter;
 
     public Mono<ServerResponse> save(ServerRequest serverRequest) {
         String traceId = extractTraceId(serverRequest);
         log.info("[{}] Received create user request", traceId);
 
-        return serverRequest.bodyToMono(String.class)
-                .doOnNext(body -> log.debug("[{}] Request body: {}", traceId, body))
-                .flatMap(body -> parseUserDto(body, traceId))
+        return requestBodyDecoder.decode(serverRequest, UserDTO.class)
+                .doOnNext(userDTO -> log.debug("[{}] Parsed user request: {}", traceId, userDTO.idNumber()))
                 .flatMap(validator::validate)
+                .flatMap(userDTO -> asyncRegistrationService.isEnabled()
+                        ? acceptRegistration(userDTO, JacksonFormats.negotiate(serverRequest.headers().accept()),
+                                traceId)
+                        : register(userDTO, traceId))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    private Mono<ServerResponse> register(UserDTO userDTO, String traceId) {
+        return Mono.just(userDTO)
                 .map(UserMapper::toUser)
-                .doOnNext(user -> log.debug("[{}] Mapped to User: {}", traceId, user))
                 .flatMap(userUseCase::save)
                 .map(UserMapper::toUserDTO)
-                .flatMap(savedUser -> buildSuccessResponse(savedUser, traceId))
-                .onErrorResume(e -> handleError(e, traceId))
+                .flatMap(savedUser -> buildSuccessResponse(savedUser, traceId));
+    }
+
+    private Mono<ServerResponse> acceptRegistration(UserDTO userDTO, MediaType format, String traceId) {
+        return asyncRegistrationService.accept(userDTO)
+                .flatMap(status -> {
+                    log.info("[{}] Registration accepted with tracking id {}", traceId, status.trackingId());
+                    return ServerResponse
+                            .accepted()
+                            .location(URI.create(REGISTRATIONS_PATH + status.trackingId()))
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                            .contentType(format)
+                            .bodyValue(status);
+                });
+    }
+
+    public Mono<ServerResponse> getRegistrationStatus(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        String trackingId = request.pathVariable("trackingId");
+        log.info("[{}] Received registration status request: {}", traceId, trackingId);
+        MediaType format = JacksonFormats.negotiate(request.headers().accept());
+
+        return asyncRegistrationService.status(trackingId)
+                .flatMap(status -> ok()
+                        .contentType(format)
+                        .bodyValue(status))
+                .switchIfEmpty(Mono.defer(() -> errorResponse(
+                        ApiError.of(HttpStatus.NOT_FOUND, ErrorCode.REGISTRATION_NOT_FOUND,
+                                "Registration not found with tracking id: " + trackingId),
+                        traceId)))
+                .onErrorResume(e -> handleError(e, traceId));
+    }
+
+    /**
+     * Registers one user per NDJSON line. Lines are decoded as they arrive and the outcome of every record is
+     * streamed back as NDJSON; a malformed or invalid line is reported without affecting the others.
+     */
+    public Mono<ServerResponse> saveBatch(ServerRequest serverRequest) {
+        String traceId = extractTraceId(serverRequest);
+        log.info("[{}] Received bulk create users request", traceId);
+
+        Flux<UserBatchResultDTO> results = serverRequest.bodyToFlux(String.class)
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .concatMap(line -> parseBatchLine(line.getT1() + 1, line.getT2(), traceId))
+                .publish(lines -> {
+                    // saveAll emits one result per user in input order, so each result takes the next pending line
+                    Queue<Long> pendingLines = new ConcurrentLinkedQueue<>();
+                    return Flux.merge(
+                            lines.filter(line -> line.error() != null)
+                                    .map(line -> new UserBatchResultDTO(line.number(),
+                                            UserBatchResult.Status.INVALID.name(), null, null, line.error())),
+                            userBatchUseCase.saveAll(lines.filter(line -> line.error() == null)
+                                            .doOnNext(line -> pendingLines.add(line.number()))
+                                            .map(line -> UserMapper.toUser(line.user())))
+                                    .map(result -> result.withLine(pendingLines.poll()))
+                                    .map(UserMapper::toBatchResultDTO));
+                })
+                .doOnComplete(() -> log.info("[{}] Bulk create users request completed", traceId))
+                .doOnError(e -> log.error("[{}] Error processing bulk request: {}", traceId, e.getMessage(), e))
                 .contextWrite(Context.of("traceId", traceId));
+
+        return ServerResponse
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, UserBatchResultDTO.class);
     }
 
-    private Mono<UserDTO> parseUserDto(String body, String traceId) {
+    private Mono<BatchLine> parseBatchLine(long number, String body, String traceId) {
+        UserDTO userDTO;
         try {
-            UserDTO userDTO = objectMapper.readValue(body, UserDTO.class);
-            log.debug("[{}] Parsed UserDTO: {}", traceId, userDTO);
-            return Mono.just(userDTO);
+            userDTO = requestBodyDecoder.readValue(body, UserDTO.class);
         } catch (JsonProcessingException e) {
-            log.error("[{}] Error parsing request body: {}", traceId, e.getMessage(), e);
-            return Mono.error(new IllegalArgumentException("Invalid request body: " + e.getMessage()));
+            log.debug("[{}] Invalid record at line {}: {}", traceId, number, e.getOriginalMessage());
+            return Mono.just(new BatchLine(number, null, "Invalid record: " + e.getOriginalMessage()));
         }
+        return validator.validate(userDTO)
+                .map(valid -> new BatchLine(number, valid, null))
+                .onErrorResume(ValidationException.class, e ->
+                        Mono.just(new BatchLine(number, null, describe(e))));
+    }
+
+    private static String describe(ValidationException e) {
+        if (e.getViolations() == null || e.getViolations().isEmpty()) {
+            return e.getMessage();
+        }
+        return e.getViolations().stream()
+                .map(violation -> violation.getField() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", ", e.getMessage() + ": ", ""));
+    }
+
+    private record BatchLine(long number, UserDTO user, String error) {
     }
 
     private Mono<ServerResponse> buildSuccessResponse(UserDTO savedUser, String traceId) {
@@ -68,22 +187,285 @@ public class UserHandler {
                 .bodyValue(savedUser);
     }
 
+    /**
+     * Lists users one keyset page at a time ({@code limit}, {@code after}). The unpaginated listing, which loads
+     * the whole table, is only served when {@code all=true} is requested explicitly.
+     */
     public Mono<ServerResponse> getAllUsers(ServerRequest request) {
         String traceId = extractTraceId(request);
-        log.info("[{}] Received get all users request", traceId);
+        MediaType format = JacksonFormats.negotiate(request.headers().accept());
+        String etag = listETag(format);
+        if (etag != null && matchesIfNoneMatch(request, etag)) {
+            log.info("[{}] User listing not modified since {}", traceId, etag);
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .eTag(etag)
+                    .build();
+        }
+        if (request.queryParam("all").map(Boolean::parseBoolean).orElse(false)) {
+            return getAllUsersUnpaginated(request, traceId, format, etag);
+        }
+        log.info("[{}] Received get users page request", traceId);
+
+        return Mono.fromSupplier(() -> parseQuery(request)
+                        .withAfterIdUser(PageCursor.decode(request.queryParam("after").orElse(null)))
+                        .withLimit(parseLimit(request, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE)))
+                .flatMap(userUseCase::findPage)
+                .map(page -> new UserPageDTO(
+                        page.getUsers().stream().map(UserMapper::toUserDTO).toList(),
+                        PageCursor.encode(page.getNextAfterIdUser())))
+                .flatMap(page -> ok(etag)
+                        .contentType(format)
+                        .bodyValue(page))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    /**
+     * Streams every user as NDJSON or server-sent events. Each row is encoded and flushed as it is read, and
+     * demand from the client is propagated to the R2DBC result, so the listing is never held in memory.
+     */
+    public Mono<ServerResponse> streamUsers(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        MediaType mediaType = request.headers().accept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype)
+                ? MediaType.TEXT_EVENT_STREAM
+                : MediaType.APPLICATION_NDJSON;
+        log.info("[{}] Received stream users request as {}", traceId, mediaType);
 
-        return userUseCase.findAll()
+        // once the first row is written the status is committed, so errors can only end the stream
+        Flux<UserDTO> users = Mono.fromSupplier(() -> parseQuery(request))
+                .flatMapMany(this::findUsers)
                 .map(UserMapper::toUserDTO)
-                .collectList()
+                .doOnComplete(() -> log.info("[{}] Stream users request completed", traceId))
+                .doOnError(e -> log.error("[{}] Error streaming users: {}", traceId, e.getMessage(), e))
+                .contextWrite(Context.of("traceId", traceId));
+
+        return ServerResponse
+                .ok()
+                .contentType(mediaType)
+                .body(users, UserDTO.class);
+    }
+
+    /**
+     * Serves the aggregates maintained in memory, so dashboards can poll them without scanning the user table.
+     */
+    public Mono<ServerResponse> getUserStats(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        log.info("[{}] Received user stats request", traceId);
+
+        return userUseCase.stats()
+                .map(UserMapper::toUserStatsDTO)
+                .flatMap(stats -> ServerResponse
+                        .ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(stats))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    /**
+     * Autocomplete over name, last name and email ({@code q}), answered from the in-memory search index.
+     */
+    public Mono<ServerResponse> searchUsers(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        String text = request.queryParam("q").orElse("");
+        log.info("[{}] Received search users request: {}", traceId, text);
+
+        return Mono.fromSupplier(() -> {
+                    if (text.isBlank()) {
+                        throw new IllegalArgumentException("q is required");
+                    }
+                    if (text.length() > MAX_SEARCH_LENGTH) {
+                        throw new IllegalArgumentException("q must be at most " + MAX_SEARCH_LENGTH + " characters");
+                    }
+                    return parseLimit(request, DEFAULT_SEARCH_LIMIT, MAX_SEARCH_LIMIT);
+                })
+                .flatMap(limit -> userUseCase.search(text, limit)
+                        .map(UserMapper::toUserDTO)
+                        .collectList())
                 .flatMap(users -> ServerResponse
                         .ok()
                         .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(users))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    public Mono<ServerResponse> getUserById(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        String id = request.pathVariable("id");
+        log.info("[{}] Received get user by id request: {}", traceId, id);
+
+        return Mono.fromSupplier(() -> parseIdUser(id))
+                .flatMap(userUseCase::findById)
+                .flatMap(user -> buildUserResponse(user, JacksonFormats.negotiate(request.headers().accept()), traceId))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    public Mono<ServerResponse> getUserByIdNumber(ServerRequest request) {
+        String traceId = extractTraceId(request);
+        String idNumber = request.pathVariable("idNumber");
+        log.info("[{}] Received get user by id number request: {}", traceId, idNumber);
+
+        return userUseCase.findByIdNumber(idNumber)
+                .flatMap(user -> buildUserResponse(user, JacksonFormats.negotiate(request.headers().accept()), traceId))
+                .onErrorResume(e -> handleError(e, traceId))
+                .contextWrite(Context.of("traceId", traceId));
+    }
+
+    private Mono<ServerResponse> buildUserResponse(User user, MediaType format, String traceId) {
+        log.debug("[{}] User found: {}", traceId, user.getIdNumber());
+        return ok()
+                .contentType(format)
+                .bodyValue(UserMapper.toUserDTO(user));
+    }
+
+    private static Long parseIdUser(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("User id must be a number: " + id);
+        }
+    }
+
+    private Mono<ServerResponse> getAllUsersUnpaginated(ServerRequest request, String traceId, MediaType format,
+                                                        String etag) {
+        log.info("[{}] Received get all users request", traceId);
+
+        return Mono.fromSupplier(() -> parseQuery(request))
+                .flatMapMany(this::findUsers)
+                .map(UserMapper::toUserDTO)
+                .collectList()
+                .flatMap(users -> ok(etag)
+                        .contentType(format)
                         .bodyValue(users)
                 )
                 .onErrorResume(e -> handleError(e, traceId))
                 .contextWrite(Context.of("traceId", traceId));
     }
 
+    /**
+     * Weak ETag of the listing, derived from the table version so a poll can be answered without reading
+     * MySQL or serializing users; {@code null} while the version is unknown. It is weak because the same
+     * validator is sent whether or not the server compresses the body, and the gzip bytes differ from the
+     * identity ones.
+     */
+    private String listETag(MediaType format) {
+        UserTableVersion version = userUseCase.listVersion();
+        if (version == null) {
+            return null;
+        }
+        // every format of the listing still gets its own validator
+        String suffix = MediaType.APPLICATION_JSON.equals(format) ? "" : "-" + format.getSubtype();
+        return "W/\"users-" + version.token() + suffix + "\"";
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: the {@code W/} prefix is ignored on both sides.
+     */
+    private static boolean matchesIfNoneMatch(ServerRequest request, String etag) {
+        String opaqueTag = withoutWeakPrefix(etag);
+        for (String header : request.headers().header(HttpHeaders.IF_NONE_MATCH)) {
+            for (String candidate : header.split(",")) {
+                String tag = withoutWeakPrefix(candidate.trim());
+                if (tag.equals("*") || tag.equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String withoutWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static ServerResponse.BodyBuilder ok() {
+        return ok(null);
+    }
+
+    private static ServerResponse.BodyBuilder ok(String etag) {
+        ServerResponse.BodyBuilder builder = ServerResponse.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return etag != null ? builder.eTag(etag) : builder;
+    }
+
+    private Flux<User> findUsers(UserQuery query) {
+        return query.isProjected() || query.hasFilters()
+                ? userUseCase.findAll(query)
+                : userUseCase.findAll();
+    }
+
+    /**
+     * Reads the {@code fields} projection (e.g. {@code fields=email,id_number}) and the filters.
+     */
+    private static UserQuery parseQuery(ServerRequest request) {
+        UserQuery query = UserQuery.all()
+                .withRoleId(parseParam(request, "role_id", Byte::valueOf))
+                .withBaseSalary(parseParam(request, "base_salary_min", BigDecimal::new),
+                        parseParam(request, "base_salary_max", BigDecimal::new))
+                .withBirthDate(parseParam(request, "birth_date_from", LocalDate::parse),
+                        parseParam(request, "birth_date_to", LocalDate::parse))
+                .withEmailDomain(parseParam(request, "email_domain", UserHandler::parseEmailDomain));
+        checkRange("base_salary", query.getBaseSalaryMin(), query.getBaseSalaryMax());
+        checkRange("birth_date", query.getBirthDateFrom(), query.getBirthDateTo());
+
+        String fields = request.queryParam("fields").orElse(null);
+        if (fields == null || fields.isBlank()) {
+            return query;
+        }
+        Set<UserField> selected = EnumSet.noneOf(UserField.class);
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                selected.add(UserField.fromName(field));
+            }
+        }
+        return query.withFields(selected);
+    }
+
+    private static <T> T parseParam(ServerRequest request, String name, Function<String, T> parser) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+
+    private static String parseEmailDomain(String domain) {
+        if (!EMAIL_DOMAIN.matcher(domain).matches()) {
+            throw new IllegalArgumentException("Invalid email domain: " + domain);
+        }
+        return domain;
+    }
+
+    private static <T extends Comparable<T>> void checkRange(String name, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException(name + " range is empty: " + min + " > " + max);
+        }
+    }
+
+    private static int parseLimit(ServerRequest request, int defaultLimit, int maxLimit) {
+        String limit = request.queryParam("limit").orElse(null);
+        if (limit == null || limit.isBlank()) {
+            return defaultLimit;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(limit.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("limit must be a number");
+        }
+        if (value < 1 || value > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+        return value;
+    }
+
     private String extractTraceId(ServerRequest request) {
         return Objects.requireNonNullElse(
                 request.headers().firstHeader("X-Trace-ID"),
@@ -91,26 +473,21 @@ public class UserHandler {
         );
     }
 
-    private static Mono<ServerResponse> handleError(Throwable e, String traceId) {
-        log.error("[{}] Error processing request: {}", traceId, e.getMessage(), e);
-        ErrorResponse errorResponse = GlobalExceptionHandler.buildErrorResponse(e, traceId);
-        HttpStatus status = determineHttpStatus(e);
-        return ServerResponse.status(status).bodyValue(errorResponse);
+    private Mono<ServerResponse> handleError(Throwable e, String traceId) {
+        ApiError error = ApiError.from(e);
+        if (error.isClientError()) {
+            log.warn("[{}] Client error: {} - {}", traceId, error.status(), e.getMessage());
+        } else {
+            log.error("[{}] Error processing request: {}", traceId, e.getMessage(), e);
+        }
+        return errorResponse(error, traceId);
+    }
+
+    private Mono<ServerResponse> errorResponse(ApiError error, String traceId) {
+        return ServerResponse.status(error.status()).body(errorResponseWriter.body(error, traceId));
     }
 
     public static HttpStatus determineHttpStatus(Throwable ex) {
-        if (ex instanceof IllegalArgumentException || ex instanceof ValidationException) {
-            return HttpStatus.BAD_REQUEST;
-        } else if (ex instanceof UserAlreadyExistsException) {
-            return HttpStatus.CONFLICT;
-        } else if (ex instanceof UserNotFoundException) {
-            return HttpStatus.NOT_FOUND;
-        } else if (ex instanceof RepositoryException) {
-            return HttpStatus.INTERNAL_SERVER_ERROR;
-        } else if (ex instanceof ExternalServiceException) {
-            return HttpStatus.SERVICE_UNAVAILABLE;
-        } else {
-            return HttpStatus.INTERNAL_SERVER_ERROR;
-        }
+        return ApiError.from(ex).status();
     }
 }
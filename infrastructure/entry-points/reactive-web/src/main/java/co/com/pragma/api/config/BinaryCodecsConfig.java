@@ -0,0 +1,29 @@
+package co.com.pragma.api.config;
+
+import co.com.pragma.api.helper.JacksonFormats;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+
+@Configuration
+public class BinaryCodecsConfig {
+
+    /**
+     * CBOR and Smile codecs on the copies of the application {@code ObjectMapper}, so binary bodies carry the
+     * same property names and formats as JSON. The Smile codecs replace the WebFlux defaults, which use a
+     * mapper of their own.
+     */
+    @Bean
+    public CodecCustomizer binaryCodecsCustomizer(JacksonFormats formats) {
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(formats.smile()));
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(formats.smile()));
+            configurer.customCodecs().register(new Jackson2CborDecoder(formats.cbor()));
+            configurer.customCodecs().register(new Jackson2CborEncoder(formats.cbor()));
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.pragma.api.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Spring Boot registers every {@link Module} bean on the application {@code ObjectMapper}, which also backs
+     * the WebFlux JSON codecs; so the handlers, the error handler and the codecs all pick it up.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "users.json", name = "blackbird", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
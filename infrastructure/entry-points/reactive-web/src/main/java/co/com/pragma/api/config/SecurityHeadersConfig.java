@@ -1,15 +1,25 @@
 package co.com.pragma.api.config;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @Component
 public class SecurityHeadersConfig implements WebFilter {
 
+    /**
+     * GET routes that answer conditional requests with an ETag. They may be stored by the client (never by
+     * shared caches) but must be revalidated on every use.
+     */
+    private static final Set<String> REVALIDATED_PATHS = Set.of("/api/v1/users");
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         HttpHeaders headers = exchange.getResponse().getHeaders();
@@ -17,9 +27,18 @@ public class SecurityHeadersConfig implements WebFilter {
         headers.set("Strict-Transport-Security", "max-age=31536000;");
         headers.set("X-Content-Type-Options", "nosniff");
         headers.set("Server", "");
-        headers.set("Cache-Control", "no-store");
-        headers.set("Pragma", "no-cache");
+        if (isRevalidated(exchange.getRequest())) {
+            headers.set("Cache-Control", "private, no-cache");
+        } else {
+            headers.set("Cache-Control", "no-store");
+            headers.set("Pragma", "no-cache");
+        }
         headers.set("Referrer-Policy", "strict-origin-when-cross-origin");
         return chain.filter(exchange);
     }
+
+    private static boolean isRevalidated(ServerHttpRequest request) {
+        return HttpMethod.GET.equals(request.getMethod())
+                && REVALIDATED_PATHS.contains(request.getPath().pathWithinApplication().value());
+    }
 }
@@ -0,0 +1,30 @@
+package co.com.pragma.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+        name = "RegistrationStatusDTO",
+        description = "Status of an asynchronous registration",
+        type = "object"
+)
+public record RegistrationStatusDTO(
+
+        @Schema(description = "Tracking id returned when the registration was accepted")
+        String trackingId,
+
+        @Schema(description = "Status", example = "ACCEPTED", allowableValues = {"ACCEPTED", "CREATED", "CONFLICT", "FAILED"})
+        String status,
+
+        @Schema(description = "Reason when the user was not created")
+        String message
+) {
+    public static final String ACCEPTED = "ACCEPTED";
+    public static final String CREATED = "CREATED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String FAILED = "FAILED";
+}
@@ -0,0 +1,32 @@
+package co.com.pragma.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+        name = "UserBatchResultDTO",
+        description = "Outcome of one record of a bulk registration",
+        type = "object"
+)
+public record UserBatchResultDTO(
+
+        @Schema(description = "Line of the NDJSON body the record was read from", example = "3")
+        Long line,
+
+        @Schema(description = "Outcome", example = "CREATED", allowableValues = {"CREATED", "CONFLICT", "INVALID", "FAILED"})
+        String status,
+
+        @Schema(description = "Id number", example = "12345678")
+        String idNumber,
+
+        @Schema(description = "Email", example = "dilan@pragmacode.com")
+        String email,
+
+        @Schema(description = "Reason when the record was not created", example = "User with email dilan@pragmacode.com already exists")
+        String message
+) {
+}
@@ -0,0 +1,24 @@
+package co.com.pragma.api.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(
+        name = "UserPageDTO",
+        description = "One page of users ordered by registration",
+        type = "object"
+)
+public record UserPageDTO(
+
+        @Schema(description = "Users of this page")
+        List<UserDTO> users,
+
+        @Schema(description = "Opaque cursor to pass as 'after' for the next page, null on the last page",
+                example = "dTo1MA", nullable = true)
+        String nextCursor
+) {
+}
@@ -0,0 +1,59 @@
+package co.com.pragma.api.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(
+        name = "UserStatsDTO",
+        description = "Aggregates of the registered users",
+        type = "object"
+)
+public record UserStatsDTO(
+
+        @Schema(description = "Registered users", example = "1250")
+        long totalUsers,
+
+        @Schema(description = "Users per role id", example = "{\"1\": 20, \"3\": 1230}")
+        Map<Byte, Long> usersByRole,
+
+        @Schema(description = "Base salary aggregates")
+        SalaryStatsDTO salary,
+
+        @Schema(description = "Users per base salary range, in ascending order")
+        List<SalaryBucketDTO> salaryHistogram
+) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @Schema(name = "SalaryStatsDTO", description = "Base salary aggregates, null when there are no users")
+    public record SalaryStatsDTO(
+            @Schema(description = "Lowest base salary", example = "1300000.00", nullable = true)
+            BigDecimal min,
+
+            @Schema(description = "Highest base salary", example = "15000000.00", nullable = true)
+            BigDecimal max,
+
+            @Schema(description = "Average base salary", example = "4250000.00", nullable = true)
+            BigDecimal average
+    ) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @Schema(name = "SalaryBucketDTO", description = "Users whose base salary is in [from, to)")
+    public record SalaryBucketDTO(
+            @Schema(description = "Inclusive lower bound", example = "1000000")
+            BigDecimal from,
+
+            @Schema(description = "Exclusive upper bound, null for the last bucket", example = "2000000", nullable = true)
+            BigDecimal to,
+
+            @Schema(description = "Users in the range", example = "310")
+            long count
+    ) {
+    }
+}
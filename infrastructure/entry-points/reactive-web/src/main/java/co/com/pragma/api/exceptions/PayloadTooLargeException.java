@@ -0,0 +1,7 @@
+package co.com.pragma.api.exceptions;
+
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,80 @@
+package co.com.pragma.api.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The application {@link ObjectMapper} and its CBOR and Smile copies, which share its modules and settings.
+ * The binary formats are meant for the other CrediYa services: a request gets them only when it asks for them,
+ * everything else is JSON.
+ */
+@Component
+public class JacksonFormats {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    public static final List<MediaType> MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ObjectMapper json;
+    private final ObjectMapper cbor;
+    private final ObjectMapper smile;
+
+    public JacksonFormats(ObjectMapper objectMapper) {
+        this.json = objectMapper;
+        this.cbor = objectMapper.copyWith(new CBORFactory());
+        this.smile = objectMapper.copyWith(new SmileFactory());
+    }
+
+    public ObjectMapper cbor() {
+        return cbor;
+    }
+
+    public ObjectMapper smile() {
+        return smile;
+    }
+
+    /**
+     * @param format one of {@link #MEDIA_TYPES}, as returned by {@link #ofContentType} or {@link #negotiate}.
+     */
+    public ObjectMapper mapper(MediaType format) {
+        if (MediaType.APPLICATION_CBOR.equals(format)) {
+            return cbor;
+        }
+        return APPLICATION_SMILE.equals(format) ? smile : json;
+    }
+
+    /**
+     * @return the format of a request body: CBOR or Smile when declared, JSON otherwise.
+     */
+    public static MediaType ofContentType(MediaType contentType) {
+        if (contentType != null) {
+            for (MediaType binary : List.of(MediaType.APPLICATION_CBOR, APPLICATION_SMILE)) {
+                if (binary.equalsTypeAndSubtype(contentType)) {
+                    return binary;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * @return the format of a response: the CBOR or Smile type the client prefers over JSON, JSON otherwise.
+     * Wildcards resolve to JSON.
+     */
+    public static MediaType negotiate(List<MediaType> accept) {
+        return accept.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .filter(type -> type.getQualityValue() > 0)
+                .map(type -> type.isWildcardType() || type.isWildcardSubtype()
+                        ? MediaType.APPLICATION_JSON
+                        : ofContentType(type))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.pragma.api.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for the user listing. Clients must treat it as an opaque token; it currently wraps the last
+ * idUser of the previous page, but the encoding may change.
+ */
+public final class PageCursor {
+
+    private static final String PREFIX = "u:";
+
+    private PageCursor() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    public static String encode(Long afterIdUser) {
+        if (afterIdUser == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + afterIdUser).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the cursor was not produced by {@link #encode(Long)}
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (!value.startsWith(PREFIX) || value.length() == PREFIX.length()
+                || !value.substring(PREFIX.length()).chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return Long.parseLong(value.substring(PREFIX.length()));
+    }
+}
@@ -0,0 +1,82 @@
+package co.com.pragma.api.helper;
+
+import co.com.pragma.api.exceptions.PayloadTooLargeException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes request bodies straight from their {@code DataBuffer}s, without aggregating them into a
+ * {@code String} first. The body is JSON unless its {@code Content-Type} is CBOR or Smile (see
+ * {@link JacksonFormats}), and it is capped at {@link RequestBodyProperties#maxSize()}: reading stops as soon as
+ * the limit is crossed.
+ * <p>
+ * One {@link ObjectReader} per format and target type is built on first use and reused, so no request pays for
+ * resolving the root deserializer again.
+ */
+@Component
+public class RequestBodyDecoder {
+
+    private final Map<MediaType, ClassValue<ObjectReader>> readers = new HashMap<>();
+    private final int maxSize;
+
+    public RequestBodyDecoder(JacksonFormats formats, RequestBodyProperties properties) {
+        this.maxSize = (int) properties.maxSize().toBytes();
+        for (MediaType format : JacksonFormats.MEDIA_TYPES) {
+            readers.put(format, readers(formats.mapper(format)));
+        }
+    }
+
+    /**
+     * @return the decoded body, empty when there is none. Fails with {@link IllegalArgumentException} on a
+     * malformed body and with {@link PayloadTooLargeException} when the body exceeds the limit.
+     */
+    public <T> Mono<T> decode(ServerRequest request, Class<T> type) {
+        MediaType format = JacksonFormats.ofContentType(request.headers().contentType().orElse(null));
+        ObjectReader reader = readers.get(format).get(type);
+        return DataBufferUtils.join(request.body(BodyExtractors.toDataBuffers()), maxSize)
+                .onErrorMap(DataBufferLimitException.class, e ->
+                        new PayloadTooLargeException("Request body exceeds " + maxSize + " bytes", e))
+                .handle((buffer, sink) -> {
+                    try (InputStream body = buffer.asInputStream(true)) {
+                        T value = reader.readValue(body);
+                        if (value != null) {
+                            sink.next(value);
+                        }
+                    } catch (JsonProcessingException e) {
+                        sink.error(new IllegalArgumentException("Invalid request body: " + e.getOriginalMessage(), e));
+                    } catch (IOException e) {
+                        sink.error(new UncheckedIOException(e));
+                    }
+                });
+    }
+
+    /**
+     * Reads one JSON document already held in memory, such as an NDJSON line.
+     */
+    public <T> T readValue(String json, Class<T> type) throws JsonProcessingException {
+        return readers.get(MediaType.APPLICATION_JSON).get(type).readValue(json);
+    }
+
+    private static ClassValue<ObjectReader> readers(ObjectMapper mapper) {
+        return new ClassValue<>() {
+            @Override
+            protected ObjectReader computeValue(Class<?> type) {
+                return mapper.readerFor(type);
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package co.com.pragma.api.helper;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "users.request-body")
+public record RequestBodyProperties(DataSize maxSize) {
+
+    public RequestBodyProperties {
+        if (maxSize == null) {
+            maxSize = DataSize.ofKilobytes(16);
+        }
+        if (maxSize.toBytes() <= 0 || maxSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("users.request-body.max-size must be between 1B and 2GB");
+        }
+    }
+}
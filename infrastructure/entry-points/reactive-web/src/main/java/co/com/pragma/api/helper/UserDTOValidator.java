@@ -0,0 +1,160 @@
+package co.com.pragma.api.helper;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.model.user.exceptions.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Bean Validation constraints of {@link UserDTO}, checked by hand: same rules, same messages, no metadata
+ * walk, no regex and no allocation when the DTO is valid. Any change to the annotations of {@link UserDTO} must
+ * be mirrored here; {@code UserDTOValidatorTest} compares both against the Jakarta implementation.
+ * <p>
+ * Plain ASCII emails are accepted on a fast path; an email outside it is checked by the Jakarta validator, so the
+ * outcome always matches {@link Email}.
+ */
+public final class UserDTOValidator {
+
+    private static final BigDecimal MAX_BASE_SALARY = new BigDecimal("15000000.00");
+    private static final int MAX_EMAIL_LOCAL_PART = 64;
+    private static final int MAX_EMAIL_DOMAIN = 255;
+    private static final int MAX_DOMAIN_LABEL = 63;
+    private static final String LOCAL_PART_SYMBOLS = "!#$%&'*+/=?^_`{|}~-";
+
+    private final Validator validator;
+
+    public UserDTOValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * @return the violations in declaration order, an empty immutable list when there are none.
+     */
+    public List<ValidationException.FieldViolation> validate(UserDTO user) {
+        List<ValidationException.FieldViolation> violations = List.of();
+        violations = notBlank(violations, "idNumber", user.idNumber(), "Id number is required");
+        violations = notBlank(violations, "name", user.name(), "Name is required");
+        violations = notBlank(violations, "lastName", user.lastName(), "Last name is required");
+        violations = notBlank(violations, "email", user.email(), "Email is required");
+        if (!isEmail(user.email())) {
+            violations = add(violations, "email", "Email is not valid");
+        }
+        violations = notNull(violations, "birthDate", user.birthDate(), "Date of birth is required");
+        violations = notBlank(violations, "address", user.address(), "Address is required");
+        violations = notBlank(violations, "phone", user.phone(), "Phone is required");
+        violations = notNull(violations, "roleId", user.roleId(), "Role id is required");
+        BigDecimal baseSalary = user.baseSalary();
+        if (baseSalary == null) {
+            violations = add(violations, "baseSalary", "Base salary is required");
+        } else {
+            if (baseSalary.signum() <= 0) {
+                violations = add(violations, "baseSalary", "Base salary must be greater than 0");
+            }
+            if (baseSalary.compareTo(MAX_BASE_SALARY) > 0) {
+                violations = add(violations, "baseSalary", "Base salary must be less than 15000000.00");
+            }
+        }
+        return violations;
+    }
+
+    private boolean isEmail(String email) {
+        // null and empty are left to @NotBlank, as @Email does
+        if (email == null || email.isEmpty() || isPlainAsciiEmail(email)) {
+            return true;
+        }
+        for (ConstraintViolation<UserDTO> violation : validator.validateValue(UserDTO.class, "email", email)) {
+            if (violation.getConstraintDescriptor().getAnnotation() instanceof Email) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dot-separated atoms of letters, digits and the RFC 5322 symbols, then a domain of alphanumeric labels with
+     * inner hyphens. Every address accepted here is also accepted by {@link Email}; the converse does not hold.
+     */
+    static boolean isPlainAsciiEmail(String email) {
+        int at = email.lastIndexOf('@');
+        if (at <= 0 || at > MAX_EMAIL_LOCAL_PART || email.length() - at - 1 > MAX_EMAIL_DOMAIN) {
+            return false;
+        }
+        char previous = '.';
+        for (int i = 0; i < at; i++) {
+            char c = email.charAt(i);
+            if (c == '.' ? previous == '.' : !isAlphanumeric(c) && LOCAL_PART_SYMBOLS.indexOf(c) < 0) {
+                return false;
+            }
+            previous = c;
+        }
+        if (previous == '.') {
+            return false;
+        }
+        int labelStart = at + 1;
+        for (int i = labelStart; i <= email.length(); i++) {
+            if (i == email.length() || email.charAt(i) == '.') {
+                if (!isDomainLabel(email, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDomainLabel(String email, int start, int end) {
+        if (end == start || end - start > MAX_DOMAIN_LABEL
+                || !isAlphanumeric(email.charAt(start)) || !isAlphanumeric(email.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = email.charAt(i);
+            if (c != '-' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static List<ValidationException.FieldViolation> notBlank(List<ValidationException.FieldViolation> violations,
+                                                                      String field, String value, String message) {
+        return isBlank(value) ? add(violations, field, message) : violations;
+    }
+
+    private static List<ValidationException.FieldViolation> notNull(List<ValidationException.FieldViolation> violations,
+                                                                     String field, Object value, String message) {
+        return value == null ? add(violations, field, message) : violations;
+    }
+
+    /**
+     * Blank as {@code @NotBlank} sees it: null, or nothing left after {@link String#trim()}.
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<ValidationException.FieldViolation> add(List<ValidationException.FieldViolation> violations,
+                                                                String field, String message) {
+        List<ValidationException.FieldViolation> result =
+                violations.isEmpty() ? new ArrayList<>() : violations;
+        result.add(new ValidationException.FieldViolation(field, message));
+        return result;
+    }
+}
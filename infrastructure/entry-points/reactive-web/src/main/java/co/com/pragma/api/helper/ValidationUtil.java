@@ -1,10 +1,10 @@
 package co.com.pragma.api.helper;
 
+import co.com.pragma.api.dto.UserDTO;
 import co.com.pragma.api.web.exception.ErrorResponse;
 import co.com.pragma.model.user.exceptions.ValidationException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -12,14 +12,31 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class ValidationUtil {
 
+    private static final ValidationException NULL_BODY = new ValidationException("Request body cannot be null");
+
     private final Validator validator;
+    private final UserDTOValidator userDTOValidator;
+
+    public ValidationUtil(Validator validator) {
+        this.validator = validator;
+        this.userDTOValidator = new UserDTOValidator(validator);
+    }
 
+    /**
+     * Validates {@link UserDTO}, the DTO of every registration, with {@link UserDTOValidator}; any other type with
+     * Bean Validation.
+     */
     public <T> Mono<T> validate(T body) {
         if (body == null) {
-            return Mono.error(new ValidationException("Request body cannot be null"));
+            return Mono.error(NULL_BODY);
+        }
+        if (body instanceof UserDTO userDTO) {
+            List<ValidationException.FieldViolation> violations = userDTOValidator.validate(userDTO);
+            return violations.isEmpty()
+                    ? Mono.just(body)
+                    : Mono.error(new ValidationException("Validation failed", violations));
         }
 
         var violations = validator.validate(body);
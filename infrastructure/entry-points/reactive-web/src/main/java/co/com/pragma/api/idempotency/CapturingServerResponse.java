@@ -0,0 +1,83 @@
+package co.com.pragma.api.idempotency;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Writes the delegate response unchanged while keeping a copy of the body bytes, handed with the written headers to
+ * {@code onWritten}
+ * once the response has been written, or running {@code onAbandoned} when writing fails or is cancelled.
+ */
+class CapturingServerResponse implements ServerResponse {
+
+    interface WrittenCallback {
+        Mono<Void> onWritten(HttpStatusCode status, HttpHeaders headers, byte[] body);
+    }
+
+    private final ServerResponse delegate;
+    private final WrittenCallback callback;
+    private final Runnable onAbandoned;
+
+    CapturingServerResponse(ServerResponse delegate, WrittenCallback callback, Runnable onAbandoned) {
+        this.delegate = delegate;
+        this.callback = callback;
+        this.onAbandoned = onAbandoned;
+    }
+
+    @Override
+    public HttpStatusCode statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> cookies() {
+        return delegate.cookies();
+    }
+
+    @Override
+    public Mono<Void> writeTo(ServerWebExchange exchange, Context context) {
+        CapturingResponse response = new CapturingResponse(exchange.getResponse());
+        return delegate.writeTo(exchange.mutate().response(response).build(), context)
+                .doOnError(error -> onAbandoned.run())
+                .doOnCancel(onAbandoned)
+                .then(Mono.defer(() -> callback.onWritten(
+                        delegate.statusCode(), response.getHeaders(), response.body)));
+    }
+
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+        private byte[] body = new byte[0];
+
+        private CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joined -> {
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        this.body = bytes;
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    })
+                    .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package co.com.pragma.api.idempotency;
+
+import co.com.pragma.api.exceptions.PayloadTooLargeException;
+import co.com.pragma.api.helper.RequestBodyProperties;
+import co.com.pragma.api.web.exception.ApiError;
+import co.com.pragma.api.web.exception.ErrorCode;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
+import co.com.pragma.model.idempotency.entities.IdempotentResponse;
+import co.com.pragma.model.idempotency.ports.IIdempotencyStorePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honors the {@code Idempotency-Key} header: the first request with a key runs the handler and its response
+ * (unless it is a 5xx) is stored; retries with the same key and body get the stored response replayed, and
+ * retries arriving while the first one is still running on this node wait for its outcome.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyHandlerFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IIdempotencyStorePort store;
+    private final IdempotencyProperties properties;
+    private final RequestBodyProperties requestBodyProperties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ConcurrentMap<String, Sinks.One<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String key = request.headers().firstHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!properties.enabled() || key == null || key.isBlank()) {
+            return next.handle(request);
+        }
+        String traceId = extractTraceId(request);
+        if (key.length() > MAX_KEY_LENGTH) {
+            return errorResponse(HttpStatus.BAD_REQUEST, ErrorCode.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must not exceed " + MAX_KEY_LENGTH + " characters", traceId);
+        }
+
+        // raw bytes, so CBOR and Smile bodies are hashed and replayed unchanged; reading stops at the body limit
+        int maxSize = (int) requestBodyProperties.maxSize().toBytes();
+        return DataBufferUtils.join(request.bodyToFlux(DataBuffer.class), maxSize)
+                .map(IdempotencyHandlerFilter::toBytes)
+                .defaultIfEmpty(new byte[0])
+                .onErrorMap(DataBufferLimitException.class, e ->
+                        new PayloadTooLargeException("Request body exceeds " + maxSize + " bytes", e))
+                .flatMap(body -> {
+                    String requestHash = sha256(body);
+                    ServerRequest replayableRequest = ServerRequest.from(request)
+                            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                            .build();
+                    return store.find(key)
+                            .flatMap(stored -> replay(stored, requestHash, traceId))
+                            .switchIfEmpty(Mono.defer(() ->
+                                    executeOnce(key, requestHash, replayableRequest, next, traceId)));
+                })
+                .onErrorResume(PayloadTooLargeException.class, e -> errorResponse(
+                        HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.PAYLOAD_TOO_LARGE, e.getMessage(), traceId));
+    }
+
+    private Mono<ServerResponse> executeOnce(String key, String requestHash, ServerRequest request,
+                                             HandlerFunction<ServerResponse> next, String traceId) {
+        Sinks.One<IdempotentResponse> outcome = Sinks.one();
+        Sinks.One<IdempotentResponse> running = inFlight.putIfAbsent(key, outcome);
+        if (running != null) {
+            log.info("[{}] Waiting for in-flight request with idempotency key {}", traceId, key);
+            return running.asMono()
+                    .timeout(properties.inFlightTimeout())
+                    .flatMap(stored -> replay(stored, requestHash, traceId))
+                    // the first request ended without a storable response, so this one runs
+                    .switchIfEmpty(Mono.defer(() -> executeOnce(key, requestHash, request, next, traceId)))
+                    .onErrorResume(TimeoutException.class, e -> errorResponse(HttpStatus.CONFLICT,
+                            ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS,
+                            "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed", traceId));
+        }
+
+        // the previous owner of the key may have stored its response and left between our first lookup and
+        // putIfAbsent, in which case running the handler again would execute the request twice
+        return store.find(key)
+                .flatMap(stored -> {
+                    release(key, outcome, stored);
+                    return replay(stored, requestHash, traceId);
+                })
+                .switchIfEmpty(Mono.defer(() -> next.handle(request)
+                        .<ServerResponse>map(response -> new CapturingServerResponse(response,
+                                (status, headers, body) ->
+                                        complete(key, outcome, requestHash, status, headers, body),
+                                () -> release(key, outcome, null)))))
+                .doOnError(error -> release(key, outcome, null))
+                .doOnCancel(() -> release(key, outcome, null));
+    }
+
+    private Mono<Void> complete(String key, Sinks.One<IdempotentResponse> outcome, String requestHash,
+                                HttpStatusCode status, HttpHeaders headers, byte[] body) {
+        if (status.is5xxServerError()) {
+            release(key, outcome, null);
+            return Mono.empty();
+        }
+        MediaType contentType = headers.getContentType();
+        IdempotentResponse response = new IdempotentResponse(requestHash, status.value(),
+                contentType != null ? contentType.toString() : null, headers.getFirst(HttpHeaders.LOCATION), body);
+        return store.save(key, response, properties.ttl())
+                .onErrorResume(error -> {
+                    log.warn("Idempotent response for key {} could not be stored: {}", key, error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> release(key, outcome, response));
+    }
+
+    private void release(String key, Sinks.One<IdempotentResponse> outcome, IdempotentResponse response) {
+        inFlight.remove(key, outcome);
+        if (response != null) {
+            outcome.tryEmitValue(response);
+        } else {
+            outcome.tryEmitEmpty();
+        }
+    }
+
+    private Mono<ServerResponse> replay(IdempotentResponse stored, String requestHash, String traceId) {
+        if (!Objects.equals(stored.getRequestHash(), requestHash)) {
+            return errorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.IDEMPOTENCY_KEY_REUSED,
+                    IDEMPOTENCY_KEY_HEADER + " was already used with a different request body", traceId);
+        }
+        log.info("[{}] Replaying stored response for idempotency key", traceId);
+        ServerResponse.BodyBuilder builder = ServerResponse
+                .status(stored.getStatusCode())
+                .header(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            builder.contentType(MediaType.parseMediaType(stored.getContentType()));
+        }
+        if (stored.getLocation() != null) {
+            builder.header(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        return builder.bodyValue(stored.getBody());
+    }
+
+    private Mono<ServerResponse> errorResponse(HttpStatus status, ErrorCode code, String message, String traceId) {
+        return ServerResponse.status(status)
+                .body(errorResponseWriter.body(ApiError.of(status, code, message), traceId));
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String extractTraceId(ServerRequest request) {
+        return Objects.requireNonNullElse(request.headers().firstHeader("X-Trace-ID"), "NO_TRACE_ID");
+    }
+}
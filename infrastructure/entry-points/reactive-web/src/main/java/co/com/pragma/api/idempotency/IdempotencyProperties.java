@@ -0,0 +1,32 @@
+package co.com.pragma.api.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        Boolean enabled,
+        String store,
+        Duration ttl,
+        Long maxEntries,
+        Duration inFlightTimeout) {
+
+    public IdempotencyProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (store == null) {
+            store = "memory";
+        }
+        if (ttl == null) {
+            ttl = Duration.ofHours(24);
+        }
+        if (maxEntries == null) {
+            maxEntries = 100_000L;
+        }
+        if (inFlightTimeout == null) {
+            inFlightTimeout = Duration.ofSeconds(30);
+        }
+    }
+}
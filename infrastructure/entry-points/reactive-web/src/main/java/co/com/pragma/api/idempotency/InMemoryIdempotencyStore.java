@@ -0,0 +1,58 @@
+package co.com.pragma.api.idempotency;
+
+import co.com.pragma.model.idempotency.entities.IdempotentResponse;
+import co.com.pragma.model.idempotency.ports.IIdempotencyStorePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Node-local store, bounded to {@code idempotency.max-entries} and evicting every entry after its TTL.
+ */
+@Component
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IIdempotencyStorePort {
+
+    private final Cache<String, Entry> responses;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String key) {
+        return Mono.fromSupplier(() -> responses.getIfPresent(key))
+                .map(Entry::response);
+    }
+
+    @Override
+    public Mono<Void> save(String key, IdempotentResponse response, Duration ttl) {
+        return Mono.fromRunnable(() -> responses.put(key, new Entry(response, ttl.toNanos())));
+    }
+
+    private record Entry(IdempotentResponse response, long ttlNanos) {
+    }
+}
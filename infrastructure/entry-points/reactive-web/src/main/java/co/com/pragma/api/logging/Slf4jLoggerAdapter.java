@@ -4,8 +4,10 @@ import co.com.pragma.model.user.ports.ILoggerPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.stream.Stream;
-
+/**
+ * {@link ILoggerPort} on SLF4J. The level is checked before the format and the argument array are built, so a
+ * disabled level costs a single check.
+ */
 @Slf4j
 @Component
 public class Slf4jLoggerAdapter implements ILoggerPort {
@@ -14,21 +16,48 @@ public class Slf4jLoggerAdapter implements ILoggerPort {
 
     @Override
     public void info(String traceId, String message, Object... args) {
-        log.info(TRACEID + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray());
+        if (log.isInfoEnabled()) {
+            log.info(TRACEID + message, withTraceId(traceId, args, null));
+        }
     }
 
     @Override
     public void debug(String traceId, String message, Object... args) {
-        log.debug(TRACEID + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray());
+        if (log.isDebugEnabled()) {
+            log.debug(TRACEID + message, withTraceId(traceId, args, null));
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return log.isDebugEnabled();
     }
 
     @Override
     public void warn(String traceId, String message, Object... args) {
-        log.warn(TRACEID + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray());
+        if (log.isWarnEnabled()) {
+            log.warn(TRACEID + message, withTraceId(traceId, args, null));
+        }
     }
 
     @Override
     public void error(String traceId, String message, Throwable throwable, Object... args) {
-        log.error(TRACEID + message, Stream.concat(Stream.of(traceId), Stream.of(args)).toArray(), throwable);
+        if (log.isErrorEnabled()) {
+            log.error(TRACEID + message, withTraceId(traceId, args, throwable));
+        }
+    }
+
+    /**
+     * The trace id followed by {@code args} and, if present, the throwable as the last element, where SLF4J
+     * takes it as the exception of the event.
+     */
+    private static Object[] withTraceId(String traceId, Object[] args, Throwable throwable) {
+        Object[] arguments = new Object[args.length + (throwable == null ? 1 : 2)];
+        arguments[0] = traceId;
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        if (throwable != null) {
+            arguments[arguments.length - 1] = throwable;
+        }
+        return arguments;
     }
 }
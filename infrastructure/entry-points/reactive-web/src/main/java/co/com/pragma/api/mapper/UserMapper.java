@@ -1,7 +1,15 @@
 package co.com.pragma.api.mapper;
 
+import co.com.pragma.api.dto.UserBatchResultDTO;
 import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.dto.UserStatsDTO;
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.entities.UserStats;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 public class UserMapper {
 
@@ -37,4 +45,34 @@ public class UserMapper {
                 user.getBaseSalary()
         );
     }
+
+    public static UserBatchResultDTO toBatchResultDTO(UserBatchResult result) {
+
+        return new UserBatchResultDTO(
+                result.getLine(),
+                result.getStatus().name(),
+                result.getUser().getIdNumber(),
+                result.getUser().getEmail(),
+                result.getMessage()
+        );
+    }
+
+    public static UserStatsDTO toUserStatsDTO(UserStats stats) {
+
+        long[] histogram = stats.getSalaryHistogram();
+        BigDecimal width = stats.getSalaryBucketWidth();
+        List<UserStatsDTO.SalaryBucketDTO> buckets = new ArrayList<>(histogram.length);
+        for (int i = 0; i < histogram.length; i++) {
+            buckets.add(new UserStatsDTO.SalaryBucketDTO(
+                    width.multiply(BigDecimal.valueOf(i)),
+                    i == histogram.length - 1 ? null : width.multiply(BigDecimal.valueOf(i + 1L)),
+                    histogram[i]));
+        }
+        return new UserStatsDTO(
+                stats.getTotal(),
+                stats.getUsersByRole(),
+                new UserStatsDTO.SalaryStatsDTO(stats.getSalaryMin(), stats.getSalaryMax(), stats.getSalaryAverage()),
+                buckets
+        );
+    }
 }
@@ -0,0 +1,43 @@
+package co.com.pragma.api.registration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "users.async-registration")
+public record AsyncRegistrationProperties(
+        Boolean enabled,
+        String journalPath,
+        Integer maxGroupSize,
+        Integer drainRatePerSecond,
+        Integer maxConcurrency,
+        Integer maxRetries,
+        Long statusRetention,
+        DataSize compactAfter) {
+
+    public AsyncRegistrationProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (journalPath == null) {
+            journalPath = "data/registration-journal.ndjson";
+        }
+        if (maxGroupSize == null) {
+            maxGroupSize = 256;
+        }
+        if (drainRatePerSecond == null) {
+            drainRatePerSecond = 50;
+        }
+        if (maxConcurrency == null) {
+            maxConcurrency = 4;
+        }
+        if (maxRetries == null) {
+            maxRetries = 3;
+        }
+        if (statusRetention == null) {
+            statusRetention = 100_000L;
+        }
+        if (compactAfter == null) {
+            compactAfter = DataSize.ofMegabytes(64);
+        }
+    }
+}
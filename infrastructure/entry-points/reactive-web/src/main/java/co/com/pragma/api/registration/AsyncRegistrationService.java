@@ -0,0 +1,227 @@
+package co.com.pragma.api.registration;
+
+import co.com.pragma.api.dto.RegistrationStatusDTO;
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.mapper.UserMapper;
+import co.com.pragma.model.user.exceptions.DomainException;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.usecase.user.IUserUseCase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in asynchronous registration ({@code users.async-registration.enabled}). Accepted users are appended to
+ * the {@link RegistrationJournal} before the 202 is returned, and a drainer feeds them to {@link IUserUseCase}
+ * at {@code drain-rate-per-second}. On start the journal is replayed: registrations without a final status are
+ * queued again and the journal is compacted. While running, the journal compacts itself to the pending
+ * registrations and the retained statuses every time it grows past {@code compact-after}.
+ */
+@Slf4j
+@Component
+public class AsyncRegistrationService implements SmartLifecycle {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final AsyncRegistrationProperties properties;
+    private final IUserUseCase userUseCase;
+    private final ObjectMapper objectMapper;
+    private final Map<String, JournalEntry> pending = new ConcurrentHashMap<>();
+    private final Cache<String, RegistrationStatusDTO> completed;
+    private final Sinks.Many<JournalEntry> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private volatile RegistrationJournal journal;
+    private volatile Disposable drainer;
+
+    public AsyncRegistrationService(AsyncRegistrationProperties properties, IUserUseCase userUseCase,
+                                    ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.userUseCase = userUseCase;
+        this.objectMapper = objectMapper;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.statusRetention())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public Mono<RegistrationStatusDTO> accept(UserDTO user) {
+        return Mono.defer(() -> {
+            JournalEntry entry = JournalEntry.accepted(UUID.randomUUID().toString(), user);
+            // tracked before the append so a compaction right after its fsync keeps the record
+            pending.put(entry.trackingId(), entry);
+            return journal.append(serialize(entry))
+                    .doOnError(error -> pending.remove(entry.trackingId()))
+                    .then(Mono.fromSupplier(() -> {
+                        queue.emitNext(entry, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+                        return entry.toStatus();
+                    }));
+        });
+    }
+
+    public Mono<RegistrationStatusDTO> status(String trackingId) {
+        return Mono.fromSupplier(() -> {
+            JournalEntry accepted = pending.get(trackingId);
+            return accepted != null ? accepted.toStatus() : completed.getIfPresent(trackingId);
+        });
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Path path = Path.of(properties.journalPath());
+        try {
+            recover(path);
+            journal = RegistrationJournal.open(path, properties.maxGroupSize(), properties.compactAfter().toBytes(),
+                    this::liveRecords);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registration journal could not be opened: " + path, e);
+        }
+
+        Duration interval = Duration.ofNanos(1_000_000_000L / properties.drainRatePerSecond());
+        drainer = queue.asFlux()
+                .delayElements(interval)
+                .flatMap(this::register, properties.maxConcurrency())
+                .subscribe();
+        log.info("Asynchronous registration started. Journal: {} | Pending: {}", path, pending.size());
+    }
+
+    @Override
+    public void stop() {
+        if (drainer != null) {
+            drainer.dispose();
+        }
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Registration journal could not be closed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return journal != null && drainer != null && !drainer.isDisposed();
+    }
+
+    /**
+     * Starts before the web server so no request is accepted before the journal is open.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private Mono<RegistrationStatusDTO> register(JournalEntry entry) {
+        String trackingId = entry.trackingId();
+        return userUseCase.save(UserMapper.toUser(entry.user()))
+                .retryWhen(Retry.backoff(properties.maxRetries(), RETRY_BACKOFF)
+                        .filter(error -> !(error instanceof DomainException)))
+                .map(saved -> new RegistrationStatusDTO(trackingId, RegistrationStatusDTO.CREATED, null))
+                .onErrorResume(error -> Mono.just(failedStatus(trackingId, error)))
+                .contextWrite(Context.of("traceId", trackingId))
+                // retained before the append so a compaction right after its fsync keeps the record
+                .doOnNext(status -> completed.put(trackingId, status))
+                .flatMap(status -> journal.append(serialize(JournalEntry.completed(status)))
+                        .onErrorResume(error -> {
+                            // the registration is replayed after a restart and resolves to CONFLICT
+                            log.warn("Final status of registration {} could not be journaled: {}",
+                                    trackingId, error.getMessage());
+                            return Mono.empty();
+                        })
+                        .thenReturn(status))
+                .doOnNext(status -> pending.remove(trackingId));
+    }
+
+    private static RegistrationStatusDTO failedStatus(String trackingId, Throwable error) {
+        Throwable cause = Exceptions.isRetryExhausted(error) ? error.getCause() : error;
+        if (cause instanceof UserAlreadyExistsException) {
+            return new RegistrationStatusDTO(trackingId, RegistrationStatusDTO.CONFLICT, cause.getMessage());
+        }
+        String message = cause instanceof DomainException
+                ? cause.getMessage()
+                : "Registration could not be completed";
+        return new RegistrationStatusDTO(trackingId, RegistrationStatusDTO.FAILED, message);
+    }
+
+    private void recover(Path path) throws IOException {
+        Map<String, JournalEntry> accepted = new LinkedHashMap<>();
+        Deque<JournalEntry> finished = new ArrayDeque<>();
+        RegistrationJournal.forEachRecord(path, record -> {
+            JournalEntry entry;
+            try {
+                entry = objectMapper.readValue(record, JournalEntry.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Skipping unreadable registration journal record: {}", e.getOriginalMessage());
+                return;
+            }
+            if (JournalEntry.ACCEPTED.equals(entry.type())) {
+                accepted.put(entry.trackingId(), entry);
+            } else {
+                accepted.remove(entry.trackingId());
+                finished.addLast(entry);
+                if (finished.size() > properties.statusRetention()) {
+                    finished.removeFirst();
+                }
+            }
+        });
+
+        List<String> compacted = new ArrayList<>(finished.size() + accepted.size());
+        for (JournalEntry entry : finished) {
+            completed.put(entry.trackingId(), entry.toStatus());
+            compacted.add(serialize(entry));
+        }
+        for (JournalEntry entry : accepted.values()) {
+            pending.put(entry.trackingId(), entry);
+            queue.emitNext(entry, Sinks.EmitFailureHandler.FAIL_FAST);
+            compacted.add(serialize(entry));
+        }
+        RegistrationJournal.rewrite(path, compacted);
+    }
+
+    /**
+     * What a compacted journal has to keep: every pending registration, then the retained final statuses. A
+     * registration that is in both ends up completed when the journal is replayed.
+     */
+    private List<String> liveRecords() {
+        List<String> records = new ArrayList<>(pending.size() + (int) completed.estimatedSize());
+        pending.values().forEach(entry -> records.add(serialize(entry)));
+        completed.asMap().values().forEach(status -> records.add(serialize(JournalEntry.completed(status))));
+        return records;
+    }
+
+    private String serialize(JournalEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Registration journal record could not be serialized", e);
+        }
+    }
+}
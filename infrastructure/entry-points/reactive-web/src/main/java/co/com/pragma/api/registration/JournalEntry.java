@@ -0,0 +1,32 @@
+package co.com.pragma.api.registration;
+
+import co.com.pragma.api.dto.RegistrationStatusDTO;
+import co.com.pragma.api.dto.UserDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * One journal record: an accepted registration carrying the user, or the final status of a registration.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record JournalEntry(String type, String trackingId, UserDTO user, String status, String message) {
+
+    static final String ACCEPTED = "ACCEPTED";
+    static final String COMPLETED = "COMPLETED";
+
+    static JournalEntry accepted(String trackingId, UserDTO user) {
+        return new JournalEntry(ACCEPTED, trackingId, user, null, null);
+    }
+
+    static JournalEntry completed(RegistrationStatusDTO status) {
+        return new JournalEntry(COMPLETED, status.trackingId(), null, status.status(), status.message());
+    }
+
+    RegistrationStatusDTO toStatus() {
+        return ACCEPTED.equals(type)
+                ? new RegistrationStatusDTO(trackingId, RegistrationStatusDTO.ACCEPTED, null)
+                : new RegistrationStatusDTO(trackingId, status, message);
+    }
+}
@@ -0,0 +1,276 @@
+package co.com.pragma.api.registration;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Append-only file of newline-terminated records. Appends are written by a single thread that takes every
+ * record queued so far (up to {@code maxGroupSize}), writes them and fsyncs once for the whole group
+ * (group commit); an append completes only after the fsync that covers it.
+ * <p>
+ * A group that fails to be written is truncated away, so the next group never starts on the same line as a torn
+ * record. If even that fails the journal stops accepting appends.
+ * <p>
+ * Once the file reaches {@code compactAfter} bytes the writer thread replaces it, between two groups, with the
+ * records returned by {@code liveRecords}; appends queued meanwhile wait for the new file.
+ */
+@Slf4j
+public class RegistrationJournal implements AutoCloseable {
+
+    private static final byte NEWLINE = '\n';
+
+    private final Path path;
+    private final int maxGroupSize;
+    private final long compactAfter;
+    private final Supplier<List<String>> liveRecords;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile IOException failure;
+    private FileChannel channel;
+    private long compactAt;
+
+    RegistrationJournal(FileChannel channel, int maxGroupSize) {
+        this(null, channel, maxGroupSize, Long.MAX_VALUE, List::of);
+    }
+
+    private RegistrationJournal(Path path, FileChannel channel, int maxGroupSize, long compactAfter,
+                                Supplier<List<String>> liveRecords) {
+        this.path = path;
+        this.channel = channel;
+        this.maxGroupSize = maxGroupSize;
+        this.compactAfter = compactAfter;
+        this.compactAt = compactAfter;
+        this.liveRecords = liveRecords;
+        this.writer = new Thread(this::writeLoop, "registration-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public static RegistrationJournal open(Path path, int maxGroupSize) throws IOException {
+        return open(path, maxGroupSize, Long.MAX_VALUE, List::of);
+    }
+
+    /**
+     * Opens the journal so that it compacts itself to {@code liveRecords} whenever it grows past
+     * {@code compactAfter} bytes. {@code liveRecords} is called on the writer thread and must cover every record
+     * already appended that is still needed.
+     */
+    public static RegistrationJournal open(Path path, int maxGroupSize, long compactAfter,
+                                           Supplier<List<String>> liveRecords) throws IOException {
+        return new RegistrationJournal(path, openForAppend(path), maxGroupSize, compactAfter, liveRecords);
+    }
+
+    /**
+     * Reads every complete record; a trailing record without newline (torn by a crash mid-write) is dropped.
+     */
+    public static List<String> readRecords(Path path) throws IOException {
+        List<String> records = new ArrayList<>();
+        forEachRecord(path, records::add);
+        return records;
+    }
+
+    /**
+     * Same as {@link #readRecords(Path)}, handing the records over one line at a time instead of loading them all.
+     */
+    public static void forEachRecord(Path path, Consumer<String> action) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        boolean lastRecordComplete = endsWithNewline(path);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String previous = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (previous != null && !previous.isBlank()) {
+                    action.accept(previous);
+                }
+                previous = line;
+            }
+            if (previous != null && lastRecordComplete && !previous.isBlank()) {
+                action.accept(previous);
+            }
+        }
+    }
+
+    /**
+     * Atomically replaces the journal with the given records; used to compact it.
+     */
+    public static void rewrite(Path path, List<String> records) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (String record : records) {
+                writeFully(out, encode(record));
+            }
+            out.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Completes once the record is fsynced. Completion is signalled on {@link Schedulers#boundedElastic()}, so
+     * whatever the caller chains after it does not hold up the next group commit.
+     */
+    public Mono<Void> append(String record) {
+        return Mono.<Void>create(sink -> {
+            if (closed) {
+                sink.error(new IllegalStateException("Registration journal is closed"));
+                return;
+            }
+            if (failure != null) {
+                sink.error(new IllegalStateException("Registration journal failed", failure));
+                return;
+            }
+            queue.add(new PendingAppend(encode(record), sink));
+        }).publishOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> group = new ArrayList<>(maxGroupSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, maxGroupSize - 1);
+                write(group);
+                group.forEach(pending -> pending.sink().success());
+                compactIfNeeded();
+            } catch (IOException e) {
+                group.forEach(pending -> pending.sink().error(e));
+            } catch (InterruptedException e) {
+                group.forEach(pending -> pending.sink().error(e));
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingAppend> group) throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        long groupStart = channel.size();
+        try {
+            for (PendingAppend pending : group) {
+                writeFully(channel, pending.bytes());
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            discard(groupStart, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Cuts the file back to where the failed group started.
+     */
+    private void discard(long groupStart, IOException cause) {
+        try {
+            channel.truncate(groupStart);
+            channel.force(false);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            failure = cause;
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            long size = channel.size();
+            if (size < compactAt) {
+                return;
+            }
+            // a failed compaction is not retried until the file has doubled
+            compactAt = Math.max(compactAfter, size * 2);
+            rewrite(path, liveRecords.get());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Registration journal could not be compacted: {}", e.getMessage());
+            return;
+        }
+        FileChannel replaced = channel;
+        try {
+            channel = openForAppend(path);
+        } catch (IOException e) {
+            // the old channel points to the replaced file: nothing may be appended to it anymore
+            failure = e;
+            return;
+        }
+        try {
+            replaced.close();
+            compactAt = Math.max(compactAfter, channel.size() * 2);
+        } catch (IOException e) {
+            log.warn("Registration journal compaction could not be completed: {}", e.getMessage());
+        }
+    }
+
+    private static FileChannel openForAppend(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static boolean endsWithNewline(Path path) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (in.size() == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            in.read(last, in.size() - 1);
+            return last.get(0) == NEWLINE;
+        }
+    }
+
+    private static ByteBuffer encode(String record) {
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(bytes.length + 1).put(bytes).put(NEWLINE).flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private record PendingAppend(ByteBuffer bytes, MonoSink<Void> sink) {
+    }
+}
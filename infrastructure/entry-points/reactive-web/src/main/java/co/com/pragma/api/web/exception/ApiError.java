@@ -0,0 +1,79 @@
+package co.com.pragma.api.web.exception;
+
+import co.com.pragma.api.exceptions.ExternalServiceException;
+import co.com.pragma.api.exceptions.PayloadTooLargeException;
+import co.com.pragma.api.exceptions.RepositoryException;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.model.user.exceptions.UserNotFoundException;
+import co.com.pragma.model.user.exceptions.ValidationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * What a failure looks like on the wire: status, error code, message and optional field errors. {@link #from}
+ * is the single exception mapping shared by {@link GlobalExceptionHandler} and the handlers.
+ */
+public record ApiError(HttpStatus status, ErrorCode code, String message, List<ErrorResponse.FieldError> errors) {
+
+    public static ApiError of(HttpStatus status, ErrorCode code, String message) {
+        return new ApiError(status, code, message, null);
+    }
+
+    public static ApiError from(Throwable ex) {
+        if (ex instanceof ValidationException validationEx) {
+            List<ErrorResponse.FieldError> fieldErrors = validationEx.getViolations() == null ? null
+                    : validationEx.getViolations().stream()
+                    .map(v -> new ErrorResponse.FieldError(v.getField(), v.getMessage()))
+                    .toList();
+            return new ApiError(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR, ex.getMessage(), fieldErrors);
+        }
+        if (ex instanceof WebExchangeBindException bindEx) {
+            String message = bindEx.getBindingResult()
+                    .getFieldErrors()
+                    .stream()
+                    .map(fieldError -> String.format("'%s' %s", fieldError.getField(), fieldError.getDefaultMessage()))
+                    .collect(Collectors.joining("; "));
+            return of(HttpStatus.BAD_REQUEST, ErrorCode.VALIDATION_ERROR, message);
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return of(HttpStatus.BAD_REQUEST, ErrorCode.BAD_REQUEST, ex.getMessage());
+        }
+        if (ex instanceof PayloadTooLargeException) {
+            return of(HttpStatus.PAYLOAD_TOO_LARGE, ErrorCode.PAYLOAD_TOO_LARGE, ex.getMessage());
+        }
+        if (ex instanceof UserAlreadyExistsException) {
+            return of(HttpStatus.CONFLICT, ErrorCode.USER_ALREADY_EXISTS, ex.getMessage());
+        }
+        if (ex instanceof UserNotFoundException) {
+            return of(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND, ex.getMessage());
+        }
+        if (ex instanceof RepositoryException) {
+            return of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.DATABASE_ERROR, "Database operation failed");
+        }
+        if (ex instanceof ExternalServiceException) {
+            return of(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.EXTERNAL_SERVICE_ERROR, "External service unavailable");
+        }
+        return of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    }
+
+    /**
+     * Whether the client caused the failure: an expected outcome, logged without a stack trace.
+     */
+    public boolean isClientError() {
+        return status.is4xxClientError();
+    }
+
+    public ErrorResponse toResponse(String traceId, Instant timestamp) {
+        return ErrorResponse.builder()
+                .code(code.getCode())
+                .message(message)
+                .traceId(traceId)
+                .timestamp(timestamp)
+                .errors(errors)
+                .build();
+    }
+}
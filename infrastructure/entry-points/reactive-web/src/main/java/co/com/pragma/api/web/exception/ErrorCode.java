@@ -7,15 +7,20 @@ public enum ErrorCode {
 
     USER_ALREADY_EXISTS("USER_001", "User already exists"),
     USER_NOT_FOUND("USER_002", "User not found"),
+    REGISTRATION_NOT_FOUND("REGISTRATION_001", "Registration not found"),
     VALIDATION_ERROR("VALIDATION_001", "Validation failed"),
 
     BUSINESS_RULE_VIOLATION("BUSINESS_001", "Business rule violation"),
 
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_001", "Idempotency key reused with a different request"),
+    IDEMPOTENCY_KEY_IN_PROGRESS("IDEMPOTENCY_002", "Idempotency key still in progress"),
+
     DATABASE_ERROR("INFRA_001", "Database error"),
     EXTERNAL_SERVICE_ERROR("INFRA_002", "External service error"),
 
     INTERNAL_SERVER_ERROR("SYSTEM_001", "Internal server error"),
-    BAD_REQUEST("SYSTEM_002", "Bad request");
+    BAD_REQUEST("SYSTEM_002", "Bad request"),
+    PAYLOAD_TOO_LARGE("SYSTEM_003", "Payload too large");
 
     private final String code;
     private final String description;
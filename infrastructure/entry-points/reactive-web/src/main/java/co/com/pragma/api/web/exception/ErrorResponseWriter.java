@@ -0,0 +1,165 @@
+package co.com.pragma.api.web.exception;
+
+import co.com.pragma.api.helper.JacksonFormats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes {@link ErrorResponse} bodies. A JSON error without field errors, by far the most frequent one, is
+ * rendered from a byte template pre-encoded per {@link ErrorCode}: only the message, trace id and timestamp are
+ * escaped and copied into a buffer of the exact size taken from the response's (pooled) buffer factory. Field
+ * errors and the binary formats go through Jackson.
+ * <p>
+ * The templates are cut from the application {@code ObjectMapper}'s own output, so they keep its property order
+ * and inclusion rules; if that mapper does not write {@link Instant} as an ISO-8601 string they are not used.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String MESSAGE_MARKER = "@@message@@";
+    private static final String TRACE_ID_MARKER = "@@traceId@@";
+
+    private final Map<MediaType, ObjectWriter> writers = new HashMap<>();
+    private final Map<ErrorCode, Template> templates = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(JacksonFormats formats) {
+        for (MediaType format : JacksonFormats.MEDIA_TYPES) {
+            writers.put(format, formats.mapper(format).writerFor(ErrorResponse.class));
+        }
+        ObjectMapper json = formats.mapper(MediaType.APPLICATION_JSON);
+        try {
+            String epoch = json.writeValueAsString(Instant.EPOCH);
+            if (epoch.equals("\"" + Instant.EPOCH + "\"")) {
+                ObjectWriter writer = writers.get(MediaType.APPLICATION_JSON);
+                for (ErrorCode code : ErrorCode.values()) {
+                    ErrorResponse sample = ApiError.of(null, code, MESSAGE_MARKER)
+                            .toResponse(TRACE_ID_MARKER, Instant.EPOCH);
+                    templates.put(code, Template.parse(writer.writeValueAsString(sample), epoch));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error response templates could not be built", e);
+        }
+    }
+
+    /**
+     * Sets the content type of {@code format} and writes the body of {@code error}.
+     */
+    public Mono<Void> write(ReactiveHttpOutputMessage outputMessage, ApiError error, String traceId,
+                            MediaType format) {
+        outputMessage.getHeaders().setContentType(format);
+        return outputMessage.writeWith(Mono.fromCallable(() ->
+                encode(outputMessage.bufferFactory(), error, traceId, format, Instant.now())));
+    }
+
+    /**
+     * A response body for {@code error} in the format the request accepts (JSON by default), for building a
+     * {@code ServerResponse}.
+     */
+    public BodyInserter<Object, ServerHttpResponse> body(ApiError error, String traceId) {
+        return (response, context) -> write(response, error, traceId, JacksonFormats.negotiate(
+                context.serverRequest()
+                        .map(request -> request.getHeaders().getAccept())
+                        .orElse(List.of())));
+    }
+
+    /**
+     * The body of {@code error} in {@code format}, as {@link #write} produces it at {@code timestamp}.
+     */
+    public DataBuffer encode(DataBufferFactory bufferFactory, ApiError error, String traceId, MediaType format,
+                      Instant timestamp) throws JsonProcessingException {
+        Template template = templates.get(error.code());
+        if (template != null && MediaType.APPLICATION_JSON.equals(format)
+                && error.errors() == null && error.message() != null && traceId != null) {
+            return template.render(bufferFactory, error.message(), traceId, timestamp);
+        }
+        return bufferFactory.wrap(writers.get(format).writeValueAsBytes(error.toResponse(traceId, timestamp)));
+    }
+
+    /**
+     * The JSON of one error code cut around its three variable values, each written as a JSON string.
+     */
+    private static final class Template {
+
+        private enum Slot { MESSAGE, TRACE_ID, TIMESTAMP }
+
+        private final byte[][] literals;
+        private final Slot[] slots;
+
+        private Template(byte[][] literals, Slot[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        static Template parse(String json, String timestamp) {
+            Map<Integer, Slot> positions = new TreeMap<>();
+            positions.put(json.indexOf("\"" + MESSAGE_MARKER + "\""), Slot.MESSAGE);
+            positions.put(json.indexOf("\"" + TRACE_ID_MARKER + "\""), Slot.TRACE_ID);
+            positions.put(json.indexOf(timestamp), Slot.TIMESTAMP);
+            if (positions.size() != Slot.values().length || positions.containsKey(-1)) {
+                throw new IllegalStateException("Unexpected error response layout: " + json);
+            }
+            byte[][] literals = new byte[positions.size() + 1][];
+            Slot[] slots = new Slot[positions.size()];
+            int start = 0;
+            int i = 0;
+            for (Map.Entry<Integer, Slot> position : positions.entrySet()) {
+                literals[i] = json.substring(start, position.getKey()).getBytes(StandardCharsets.UTF_8);
+                slots[i] = position.getValue();
+                start = position.getKey() + switch (position.getValue()) {
+                    case MESSAGE -> MESSAGE_MARKER.length() + 2;
+                    case TRACE_ID -> TRACE_ID_MARKER.length() + 2;
+                    case TIMESTAMP -> timestamp.length();
+                };
+                i++;
+            }
+            literals[i] = json.substring(start).getBytes(StandardCharsets.UTF_8);
+            return new Template(literals, slots);
+        }
+
+        DataBuffer render(DataBufferFactory bufferFactory, String message, String traceId, Instant timestamp) {
+            JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+            byte[][] values = new byte[slots.length][];
+            int size = 0;
+            for (int i = 0; i < slots.length; i++) {
+                values[i] = switch (slots[i]) {
+                    case MESSAGE -> encoder.quoteAsUTF8(message);
+                    case TRACE_ID -> encoder.quoteAsUTF8(traceId);
+                    // ISO-8601 needs no escaping
+                    case TIMESTAMP -> timestamp.toString().getBytes(StandardCharsets.US_ASCII);
+                };
+                size += values[i].length + 2;
+            }
+            for (byte[] literal : literals) {
+                size += literal.length;
+            }
+            DataBuffer buffer = bufferFactory.allocateBuffer(size);
+            buffer.write(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                buffer.write((byte) '"');
+                buffer.write(values[i]);
+                buffer.write((byte) '"');
+                buffer.write(literals[i + 1]);
+            }
+            return buffer;
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.dto.UserBatchResultDTO;
 import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.helper.RequestBodyProperties;
+import co.com.pragma.api.idempotency.IdempotencyHandlerFilter;
+import co.com.pragma.api.idempotency.IdempotencyProperties;
+import co.com.pragma.api.idempotency.InMemoryIdempotencyStore;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -24,9 +32,14 @@ class RouterRestTest {
     void setUp() {
         userHandler = Mockito.mock(UserHandler.class);
         RouterRest routerRest = new RouterRest();
+        IdempotencyProperties idempotencyProperties = new IdempotencyProperties(null, null, null, null, null);
+        IdempotencyHandlerFilter idempotencyFilter = new IdempotencyHandlerFilter(
+                new InMemoryIdempotencyStore(idempotencyProperties), idempotencyProperties,
+                new RequestBodyProperties(null),
+                new ErrorResponseWriter(new JacksonFormats(new ObjectMapper().findAndRegisterModules())));
 
         webTestClient = WebTestClient.bindToRouterFunction(
-                routerRest.routerFunction(userHandler)
+                routerRest.routerFunction(userHandler, idempotencyFilter)
         ).build();
     }
 
@@ -60,6 +73,81 @@ class RouterRestTest {
         Mockito.verify(userHandler).getAllUsers(Mockito.any());
     }
 
+    @Test
+    void shouldRouteStreamingAcceptToStreamUsers() {
+        Mockito.when(userHandler.streamUsers(Mockito.any()))
+                .thenReturn(ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(Flux.empty(), UserDTO.class));
+
+        webTestClient.get()
+                .uri("/api/v1/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON);
+
+        Mockito.verify(userHandler).streamUsers(Mockito.any());
+        Mockito.verify(userHandler, Mockito.never()).getAllUsers(Mockito.any());
+    }
+
+    @Test
+    void shouldNotRouteWildcardAcceptToStreamUsers() {
+        Mockito.when(userHandler.getAllUsers(Mockito.any()))
+                .thenReturn(ServerResponse.ok().build());
+
+        webTestClient.get()
+                .uri("/api/v1/users")
+                .accept(MediaType.ALL)
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(userHandler).getAllUsers(Mockito.any());
+        Mockito.verify(userHandler, Mockito.never()).streamUsers(Mockito.any());
+    }
+
+    @Test
+    void shouldRouteIdNumberLookupBeforeIdLookup() {
+        Mockito.when(userHandler.getUserByIdNumber(Mockito.any()))
+                .thenReturn(ServerResponse.ok().build());
+
+        webTestClient.get()
+                .uri("/api/v1/users/id-number/123")
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(userHandler).getUserByIdNumber(Mockito.any());
+        Mockito.verify(userHandler, Mockito.never()).getUserById(Mockito.any());
+    }
+
+    @Test
+    void shouldRouteStatsBeforeIdLookup() {
+        Mockito.when(userHandler.getUserStats(Mockito.any()))
+                .thenReturn(ServerResponse.ok().build());
+
+        webTestClient.get()
+                .uri("/api/v1/users/stats")
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(userHandler).getUserStats(Mockito.any());
+        Mockito.verify(userHandler, Mockito.never()).getUserById(Mockito.any());
+    }
+
+    @Test
+    void shouldRouteSearchBeforeIdLookup() {
+        Mockito.when(userHandler.searchUsers(Mockito.any()))
+                .thenReturn(ServerResponse.ok().build());
+
+        webTestClient.get()
+                .uri("/api/v1/users/search?q=juan")
+                .exchange()
+                .expectStatus().isOk();
+
+        Mockito.verify(userHandler).searchUsers(Mockito.any());
+        Mockito.verify(userHandler, Mockito.never()).getUserById(Mockito.any());
+    }
+
     @Test
     void shouldRouteToSaveUser() {
         UserDTO user = new UserDTO(
@@ -91,4 +179,26 @@ class RouterRestTest {
 
         Mockito.verify(userHandler).save(Mockito.any());
     }
+
+    @Test
+    void shouldRouteNdjsonToSaveBatch() {
+        UserBatchResultDTO result = new UserBatchResultDTO(null, "CREATED", "123", "john.doe@example.com", null);
+
+        Mockito.when(userHandler.saveBatch(Mockito.any()))
+                .thenReturn(ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(Flux.just(result), UserBatchResultDTO.class));
+
+        webTestClient.post()
+                .uri("/api/v1/users/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"id_number\":\"123\"}\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(UserBatchResultDTO.class)
+                .hasSize(1);
+
+        Mockito.verify(userHandler).saveBatch(Mockito.any());
+    }
 }
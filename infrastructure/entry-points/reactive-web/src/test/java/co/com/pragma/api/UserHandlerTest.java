@@ -1,13 +1,30 @@
 package co.com.pragma.api;
 
+import co.com.pragma.api.dto.RegistrationStatusDTO;
+import co.com.pragma.api.dto.UserBatchResultDTO;
 import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.dto.UserPageDTO;
+import co.com.pragma.api.dto.UserStatsDTO;
 import co.com.pragma.api.exceptions.ExternalServiceException;
+import co.com.pragma.api.exceptions.PayloadTooLargeException;
 import co.com.pragma.api.exceptions.RepositoryException;
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.helper.PageCursor;
+import co.com.pragma.api.helper.RequestBodyDecoder;
 import co.com.pragma.api.helper.ValidationUtil;
+import co.com.pragma.api.registration.AsyncRegistrationService;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
 import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.entities.UserBatchResult;
+import co.com.pragma.model.user.entities.UserField;
+import co.com.pragma.model.user.entities.UserPage;
+import co.com.pragma.model.user.entities.UserQuery;
+import co.com.pragma.model.user.entities.UserStats;
+import co.com.pragma.model.user.entities.UserTableVersion;
 import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
 import co.com.pragma.model.user.exceptions.UserNotFoundException;
 import co.com.pragma.model.user.exceptions.ValidationException;
+import co.com.pragma.usecase.user.IUserBatchUseCase;
 import co.com.pragma.usecase.user.IUserUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,9 +32,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.EntityResponse;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
@@ -26,12 +46,16 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -46,7 +70,17 @@ class UserHandlerTest {
     private ValidationUtil validator;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private RequestBodyDecoder requestBodyDecoder;
+
+    @Mock
+    private IUserBatchUseCase userBatchUseCase;
+
+    @Mock
+    private AsyncRegistrationService asyncRegistrationService;
+
+    @Spy
+    private ErrorResponseWriter errorResponseWriter =
+            new ErrorResponseWriter(new JacksonFormats(new ObjectMapper().findAndRegisterModules()));
 
     @InjectMocks
     private UserHandler userHandler;
@@ -101,7 +135,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class))).thenReturn(Mono.just(testUser));
 
@@ -115,18 +149,91 @@ class UserHandlerTest {
                 })
                 .verifyComplete();
 
-        verify(objectMapper).readValue(validJsonBody, UserDTO.class);
+        verify(requestBodyDecoder).decode(request, UserDTO.class);
         verify(validator).validate(testUserDTO);
         verify(userUseCase).save(any(User.class));
     }
 
+    @Test
+    void save_WithAsyncRegistrationEnabled_ShouldReturnAccepted() throws Exception {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .body(Mono.just(validJsonBody));
+
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
+        when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
+        when(asyncRegistrationService.isEnabled()).thenReturn(true);
+        when(asyncRegistrationService.accept(testUserDTO))
+                .thenReturn(Mono.just(new RegistrationStatusDTO("tracking-1", RegistrationStatusDTO.ACCEPTED, null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.save(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.ACCEPTED, response.statusCode());
+                    assertEquals("/api/v1/users/registrations/tracking-1",
+                            response.headers().getLocation().toString());
+                    assertEquals(MediaType.APPLICATION_JSON, response.headers().getContentType());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getRegistrationStatus_WithCborAccept_ShouldAnswerCbor() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .header("Accept", "application/cbor")
+                .pathVariable("trackingId", "tracking-1")
+                .build();
+
+        when(asyncRegistrationService.status("tracking-1"))
+                .thenReturn(Mono.just(new RegistrationStatusDTO("tracking-1", RegistrationStatusDTO.ACCEPTED, null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getRegistrationStatus(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(MediaType.APPLICATION_CBOR, response.headers().getContentType());
+                    assertEquals(List.of("Accept"), response.headers().getVary());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getRegistrationStatus_WithUnknownTrackingId_ShouldReturnNotFound() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .pathVariable("trackingId", "unknown")
+                .build();
+
+        when(asyncRegistrationService.status("unknown")).thenReturn(Mono.empty());
+
+        // When
+        Mono<ServerResponse> result = userHandler.getRegistrationStatus(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.NOT_FOUND, response.statusCode()))
+                .verifyComplete();
+    }
+
     @Test
     void save_WithoutTraceId_ShouldUseDefaultTraceId() throws Exception {
         // Given
         ServerRequest request = MockServerRequest.builder()
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class))).thenReturn(Mono.just(testUser));
 
@@ -149,8 +256,8 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(invalidJson));
 
-        when(objectMapper.readValue(invalidJson, UserDTO.class))
-                .thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("Invalid JSON") {});
+        when(requestBodyDecoder.decode(request, UserDTO.class))
+                .thenReturn(Mono.error(new IllegalArgumentException("Invalid request body: Unexpected character")));
 
         // When
         Mono<ServerResponse> result = userHandler.save(request);
@@ -162,7 +269,29 @@ class UserHandlerTest {
                 })
                 .verifyComplete();
 
-        verify(objectMapper).readValue(invalidJson, UserDTO.class);
+        verify(requestBodyDecoder).decode(request, UserDTO.class);
+        verifyNoInteractions(validator);
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void save_WithOversizedBody_ShouldReturnPayloadTooLarge() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .body(Mono.just(validJsonBody));
+
+        when(requestBodyDecoder.decode(request, UserDTO.class))
+                .thenReturn(Mono.error(new PayloadTooLargeException("Request body exceeds 16384 bytes", null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.save(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.statusCode()))
+                .verifyComplete();
+
         verifyNoInteractions(validator);
         verifyNoInteractions(userUseCase);
     }
@@ -174,7 +303,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO))
                 .thenReturn(Mono.error(new ValidationException("Name is required")));
 
@@ -188,7 +317,7 @@ class UserHandlerTest {
                 })
                 .verifyComplete();
 
-        verify(objectMapper).readValue(validJsonBody, UserDTO.class);
+        verify(requestBodyDecoder).decode(request, UserDTO.class);
         verify(validator).validate(testUserDTO);
         verifyNoInteractions(userUseCase);
     }
@@ -200,7 +329,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class)))
                 .thenReturn(Mono.error(new UserAlreadyExistsException("User already exists")));
@@ -223,7 +352,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class)))
                 .thenReturn(Mono.error(new RepositoryException("Database error")));
@@ -246,7 +375,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class)))
                 .thenReturn(Mono.error(new ExternalServiceException("External service down")));
@@ -269,7 +398,7 @@ class UserHandlerTest {
                 .header("X-Trace-ID", traceId)
                 .body(Mono.just(validJsonBody));
 
-        when(objectMapper.readValue(validJsonBody, UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.decode(request, UserDTO.class)).thenReturn(Mono.just(testUserDTO));
         when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
         when(userUseCase.save(any(User.class)))
                 .thenReturn(Mono.error(new RuntimeException("Unexpected error")));
@@ -289,6 +418,7 @@ class UserHandlerTest {
     void getAllUsers_WithValidRequest_ShouldReturnUsersList() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -314,6 +444,7 @@ class UserHandlerTest {
     void getAllUsers_WithEmptyList_ShouldReturnEmptyList() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -335,7 +466,8 @@ class UserHandlerTest {
     @Test
     void getAllUsers_WithoutTraceId_ShouldUseDefaultTraceId() {
         // Given
-        ServerRequest request = MockServerRequest.builder().build();
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true").build();
 
         List<User> users = List.of(testUser);
         when(userUseCase.findAll()).thenReturn(Flux.fromIterable(users));
@@ -355,6 +487,7 @@ class UserHandlerTest {
     void getAllUsers_WithRepositoryException_ShouldReturnInternalServerError() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -376,6 +509,7 @@ class UserHandlerTest {
     void getAllUsers_WithExternalServiceException_ShouldReturnServiceUnavailable() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -397,6 +531,7 @@ class UserHandlerTest {
     void getAllUsers_WithUserNotFoundException_ShouldReturnNotFound() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -418,6 +553,7 @@ class UserHandlerTest {
     void getAllUsers_WithGenericException_ShouldReturnInternalServerError() {
         // Given
         ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
                 .header("X-Trace-ID", traceId)
                 .build();
 
@@ -435,6 +571,481 @@ class UserHandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllUsers_WithoutAllFlag_ShouldReturnFirstPageWithNextCursor() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .build();
+
+        when(userUseCase.findPage(argThat(query -> query.getAfterIdUser() == null && query.getLimit() == 50)))
+                .thenReturn(Mono.just(new UserPage(List.of(testUser), 7L)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    UserPageDTO page = ((EntityResponse<UserPageDTO>) response).entity();
+                    assertEquals(1, page.users().size());
+                    assertEquals(7L, PageCursor.decode(page.nextCursor()));
+                })
+                .verifyComplete();
+        verify(userUseCase, never()).findAll();
+    }
+
+    @Test
+    void getAllUsers_WithCursorAndLimit_ShouldRequestNextPage() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("after", PageCursor.encode(7L))
+                .queryParam("limit", "10")
+                .build();
+
+        when(userUseCase.findPage(any(UserQuery.class))).thenReturn(Mono.just(new UserPage(List.of(), null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+        verify(userUseCase).findPage(argThat(query -> query.getAfterIdUser() == 7L && query.getLimit() == 10));
+    }
+
+    @Test
+    void getAllUsers_WithFields_ShouldRequestProjection() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("fields", "email,id_number")
+                .build();
+
+        when(userUseCase.findPage(any(UserQuery.class))).thenReturn(Mono.just(new UserPage(List.of(), null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+        verify(userUseCase).findPage(argThat(query ->
+                query.getFields().equals(EnumSet.of(UserField.EMAIL, UserField.ID_NUMBER))));
+    }
+
+    @Test
+    void getAllUsers_WithSalaryBand_ShouldFilterInQuery() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("all", "true")
+                .queryParam("role_id", "2")
+                .queryParam("base_salary_min", "1000000")
+                .queryParam("base_salary_max", "2000000")
+                .build();
+
+        when(userUseCase.findAll(any(UserQuery.class))).thenReturn(Flux.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+        verify(userUseCase).findAll(argThat((UserQuery query) -> query.getRoleId() == 2
+                && query.getBaseSalaryMin().compareTo(new BigDecimal("1000000")) == 0
+                && query.getBaseSalaryMax().compareTo(new BigDecimal("2000000")) == 0));
+        verify(userUseCase, never()).findAll();
+    }
+
+    @Test
+    void getAllUsers_WithInvertedSalaryBand_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("base_salary_min", "2000")
+                .queryParam("base_salary_max", "1000")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getUserById_WhenUserExists_ShouldReturnOk() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .pathVariable("id", "1")
+                .build();
+
+        when(userUseCase.findById(1L)).thenReturn(Mono.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserById(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getUserById_WithSmileAccept_ShouldAnswerSmile() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("Accept", "application/x-jackson-smile")
+                .pathVariable("id", "1")
+                .build();
+
+        when(userUseCase.findById(1L)).thenReturn(Mono.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserById(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(JacksonFormats.APPLICATION_SMILE, response.headers().getContentType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getUserById_WithNonNumericId_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .pathVariable("id", "abc")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserById(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getUserByIdNumber_WhenUserDoesNotExist_ShouldReturnNotFound() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .pathVariable("idNumber", "999")
+                .build();
+
+        when(userUseCase.findByIdNumber("999")).thenReturn(Mono.error(new UserNotFoundException("999")));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserByIdNumber(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.NOT_FOUND, response.statusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getUserStats_ShouldReturnStatsWithHistogram() {
+        // Given
+        ServerRequest request = MockServerRequest.builder().build();
+        UserStats stats = UserStats.empty(BigDecimal.valueOf(1_000_000), 15).withInserted(testUser);
+
+        when(userUseCase.stats()).thenReturn(Mono.just(stats));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserStats(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    UserStatsDTO body = ((EntityResponse<UserStatsDTO>) response).entity();
+                    assertEquals(1L, body.totalUsers());
+                    assertEquals(1L, body.usersByRole().get((byte) 1));
+                    assertEquals(0, BigDecimal.valueOf(5000).compareTo(body.salary().average()));
+                    assertEquals(15, body.salaryHistogram().size());
+                    assertEquals(1L, body.salaryHistogram().get(0).count());
+                    assertNull(body.salaryHistogram().get(14).to());
+                })
+                .verifyComplete();
+        verify(userUseCase, never()).findAll();
+    }
+
+    @Test
+    void getUserStats_WhenStatsFail_ShouldReturnInternalServerError() {
+        // Given
+        ServerRequest request = MockServerRequest.builder().build();
+
+        when(userUseCase.stats()).thenReturn(Mono.error(new RuntimeException("Database down")));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getUserStats(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchUsers_ShouldReturnRankedUsersWithDefaultLimit() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("q", "joh")
+                .build();
+
+        when(userUseCase.search("joh", 10)).thenReturn(Flux.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.searchUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    List<UserDTO> users = ((EntityResponse<List<UserDTO>>) response).entity();
+                    assertEquals(1, users.size());
+                    assertEquals("john@test.com", users.get(0).email());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchUsers_WithoutQuery_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder().build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.searchUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void searchUsers_WithLimitAboveMaximum_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("q", "joh")
+                .queryParam("limit", "51")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.searchUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getAllUsers_WithMatchingIfNoneMatch_ShouldReturnNotModified() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("If-None-Match", "W/\"users-10-5\"")
+                .build();
+
+        when(userUseCase.listVersion()).thenReturn(new UserTableVersion(10L, 5L));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.NOT_MODIFIED, response.statusCode());
+                    assertEquals("W/\"users-10-5\"", response.headers().getETag());
+                })
+                .verifyComplete();
+        verify(userUseCase, never()).findPage(any());
+    }
+
+    @Test
+    void getAllUsers_WithStaleIfNoneMatch_ShouldReturnPageWithCurrentETag() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("If-None-Match", "\"users-9-4\"")
+                .build();
+
+        when(userUseCase.listVersion()).thenReturn(new UserTableVersion(10L, 5L));
+        when(userUseCase.findPage(any(UserQuery.class))).thenReturn(Mono.just(new UserPage(List.of(testUser), null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals("W/\"users-10-5\"", response.headers().getETag());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllUsers_WithCborAccept_ShouldAnswerCborWithItsOwnETag() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("Accept", "application/cbor, application/json;q=0.5")
+                .build();
+
+        when(userUseCase.listVersion()).thenReturn(new UserTableVersion(10L, 5L));
+        when(userUseCase.findPage(any(UserQuery.class))).thenReturn(Mono.just(new UserPage(List.of(testUser), null)));
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(MediaType.APPLICATION_CBOR, response.headers().getContentType());
+                    assertEquals("W/\"users-10-5-cbor\"", response.headers().getETag());
+                    assertEquals(List.of("Accept"), response.headers().getVary());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllUsers_WithUnknownField_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("fields", "email,password")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getAllUsers_WithInvalidCursor_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("after", "not-a-cursor")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void getAllUsers_WithLimitOutOfRange_ShouldReturnBadRequest() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .queryParam("limit", "501")
+                .build();
+
+        // When
+        Mono<ServerResponse> result = userHandler.getAllUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                .verifyComplete();
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    void streamUsers_WithEventStreamAccept_ShouldStreamServerSentEvents() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                .build();
+
+        when(userUseCase.findAll()).thenReturn(Flux.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.streamUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.statusCode());
+                    assertEquals(MediaType.TEXT_EVENT_STREAM, response.headers().getContentType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamUsers_WithNdjsonAccept_ShouldStreamNdjson() {
+        // Given
+        ServerRequest request = MockServerRequest.builder()
+                .header("Accept", MediaType.APPLICATION_NDJSON_VALUE)
+                .build();
+
+        when(userUseCase.findAll()).thenReturn(Flux.just(testUser));
+
+        // When
+        Mono<ServerResponse> result = userHandler.streamUsers(request);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> assertEquals(MediaType.APPLICATION_NDJSON, response.headers().getContentType()))
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveBatch_ShouldStreamOneResultPerRecord() throws Exception {
+        // Given
+        String invalidLine = "{ invalid json }";
+        ServerRequest request = MockServerRequest.builder()
+                .header("X-Trace-ID", traceId)
+                .body(Flux.just(validJsonBody.strip(), "", invalidLine));
+
+        when(requestBodyDecoder.readValue(validJsonBody.strip(), UserDTO.class)).thenReturn(testUserDTO);
+        when(requestBodyDecoder.readValue(invalidLine, UserDTO.class))
+                .thenThrow(new com.fasterxml.jackson.core.JsonProcessingException("Invalid JSON") {});
+        when(validator.validate(testUserDTO)).thenReturn(Mono.just(testUserDTO));
+        when(userBatchUseCase.saveAll(any(Flux.class)))
+                .thenAnswer(invocation -> ((Flux<User>) invocation.getArgument(0)).map(UserBatchResult::created));
+
+        // When
+        ServerResponse response = userHandler.saveBatch(request).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.headers().getContentType());
+        Flux<UserBatchResultDTO> results = ((EntityResponse<Flux<UserBatchResultDTO>>) response).entity();
+        StepVerifier.create(results)
+                .expectNextMatches(dto -> dto.status().equals("INVALID") && dto.line() == 3L)
+                .expectNextMatches(dto -> dto.status().equals("CREATED") && dto.idNumber().equals("1234")
+                        && dto.line() == 1L)
+                .verifyComplete();
+    }
+
     @Test
     void determineHttpStatus_WithDifferentExceptions_ShouldReturnCorrectStatus() {
         // Test IllegalArgumentException
@@ -469,7 +1080,7 @@ class UserHandlerTest {
 
 class UserHandlerTestSupport extends UserHandler {
     public UserHandlerTestSupport() {
-        super(null, null, null);
+        super(null, null, null, null, null);
     }
 
     public static HttpStatus determineHttpStatus(Throwable ex) {
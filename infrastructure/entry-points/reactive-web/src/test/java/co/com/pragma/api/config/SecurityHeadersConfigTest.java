@@ -27,4 +27,19 @@ class SecurityHeadersConfigTest {
         assertThat(headers.getFirst("Cache-Control")).isEqualTo("no-store");
         // etc.
     }
+
+    @Test
+    void shouldAllowRevalidationOfUserListing() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/v1/users").build()
+        );
+        WebFilterChain chain = webExchange -> Mono.empty();
+
+        filter.filter(exchange, chain).block();
+
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertThat(headers.getFirst("Cache-Control")).isEqualTo("private, no-cache");
+        assertThat(headers.getFirst("Pragma")).isNull();
+        assertThat(headers.getFirst("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
 }
@@ -0,0 +1,37 @@
+package co.com.pragma.api.helper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JacksonFormatsTest {
+
+    @Test
+    void negotiate_ShouldPreferTheBinaryTypeWithHighestQuality() {
+        assertEquals(MediaType.APPLICATION_CBOR,
+                JacksonFormats.negotiate(MediaType.parseMediaTypes("application/json;q=0.5, application/cbor")));
+        assertEquals(JacksonFormats.APPLICATION_SMILE,
+                JacksonFormats.negotiate(MediaType.parseMediaTypes("application/x-jackson-smile")));
+        assertEquals(MediaType.APPLICATION_JSON,
+                JacksonFormats.negotiate(MediaType.parseMediaTypes("application/cbor;q=0.2, application/json")));
+    }
+
+    @Test
+    void negotiate_WithWildcardOrNoAccept_ShouldAnswerJson() {
+        assertEquals(MediaType.APPLICATION_JSON, JacksonFormats.negotiate(List.of()));
+        assertEquals(MediaType.APPLICATION_JSON, JacksonFormats.negotiate(List.of(MediaType.ALL)));
+        assertEquals(MediaType.APPLICATION_JSON,
+                JacksonFormats.negotiate(MediaType.parseMediaTypes("*/*, application/cbor;q=0.9")));
+    }
+
+    @Test
+    void ofContentType_ShouldIgnoreParametersAndDefaultToJson() {
+        assertEquals(JacksonFormats.APPLICATION_SMILE,
+                JacksonFormats.ofContentType(MediaType.parseMediaType("application/x-jackson-smile;charset=UTF-8")));
+        assertEquals(MediaType.APPLICATION_JSON, JacksonFormats.ofContentType(null));
+        assertEquals(MediaType.APPLICATION_JSON, JacksonFormats.ofContentType(MediaType.TEXT_PLAIN));
+    }
+}
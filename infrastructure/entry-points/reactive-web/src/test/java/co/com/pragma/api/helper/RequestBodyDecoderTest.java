@@ -0,0 +1,93 @@
+package co.com.pragma.api.helper;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.api.exceptions.PayloadTooLargeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestBodyDecoderTest {
+
+    private static final String BODY = """
+            {"id_number":"12345678","name":"John","last_name":"Doe","email":"john@test.com",\
+            "birth_date":"1990-01-01","address":"calle 12","phone":"3006008080","role_id":1,"base_salary":5000.50}""";
+
+    private final JacksonFormats formats = new JacksonFormats(new ObjectMapper().findAndRegisterModules());
+    private final RequestBodyDecoder decoder =
+            new RequestBodyDecoder(formats, new RequestBodyProperties(DataSize.ofKilobytes(1)));
+
+    @Test
+    void decode_WithChunkedBody_ShouldReadUserDto() {
+        // Given
+        int half = BODY.length() / 2;
+        ServerRequest request = request(BODY.substring(0, half), BODY.substring(half));
+
+        // When & Then
+        StepVerifier.create(decoder.decode(request, UserDTO.class))
+                .assertNext(userDTO -> {
+                    assertEquals("12345678", userDTO.idNumber());
+                    assertEquals(LocalDate.of(1990, 1, 1), userDTO.birthDate());
+                    assertEquals(new BigDecimal("5000.50"), userDTO.baseSalary());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_WithCborContentType_ShouldReadUserDto() throws Exception {
+        // Given
+        UserDTO userDTO = formats.mapper(MediaType.APPLICATION_JSON).readValue(BODY, UserDTO.class);
+        byte[] cbor = formats.cbor().writeValueAsBytes(userDTO);
+        ServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cbor)));
+
+        // When & Then
+        StepVerifier.create(decoder.decode(request, UserDTO.class))
+                .expectNext(userDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_WithMalformedJson_ShouldFailWithIllegalArgument() {
+        // Given
+        ServerRequest request = request("{ invalid json }");
+
+        // When & Then
+        StepVerifier.create(decoder.decode(request, UserDTO.class))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().startsWith("Invalid request body: "))
+                .verify();
+    }
+
+    @Test
+    void decode_WithBodyOverLimit_ShouldFailWithPayloadTooLarge() {
+        // Given
+        ServerRequest request = request(BODY, " ".repeat(1024));
+
+        // When & Then
+        StepVerifier.create(decoder.decode(request, UserDTO.class))
+                .expectError(PayloadTooLargeException.class)
+                .verify();
+    }
+
+    private static ServerRequest request(String... chunks) {
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        Flux<DataBuffer> body = Flux.just(chunks)
+                .map(chunk -> factory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        return MockServerRequest.builder().body(body);
+    }
+}
@@ -0,0 +1,129 @@
+package co.com.pragma.api.helper;
+
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.model.user.exceptions.ValidationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conformance of {@link UserDTOValidator} with Hibernate Validator on the annotations of {@link UserDTO}.
+ */
+class UserDTOValidatorTest {
+
+    private static final List<String> EMAILS = List.of(
+            "john@test.com", "John.Doe+tag@Pragma.com.co", "a_b-c'd@sub-domain.example.org", "x@localhost",
+            "!#$%&'*+/=?^_`{|}~-@example.com", "\"john doe\"@example.com", "john@[127.0.0.1]",
+            "josé@dominio.co", "ana@münchen.de", "noatsign", "@example.com", "john@", "john@@example.com",
+            ".john@example.com", "john.@example.com", "jo..hn@example.com", "john@example..com",
+            "john@example.com.", "john@-example.com", "john@example-.com", "john@exa_mple.com",
+            "john doe@example.com", "   ", "", "a".repeat(64) + "@example.com", "a".repeat(65) + "@example.com",
+            "john@" + "b".repeat(63) + ".com", "john@" + "b".repeat(64) + ".com");
+
+    private static final List<String> SALARIES = List.of(
+            "0", "-1", "0.01", "1000000", "15000000.00", "15000000.001", "15000000.01", "99999999999");
+
+    private static ValidatorFactory factory;
+    private static Validator jakarta;
+    private static UserDTOValidator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        jakarta = factory.getValidator();
+        validator = new UserDTOValidator(jakarta);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void validate_WithValidUser_ShouldReportNothing() {
+        // Given
+        UserDTO user = user("john@test.com", new BigDecimal("5000"));
+
+        // When
+        List<ValidationException.FieldViolation> violations = validator.validate(user);
+
+        // Then
+        assertTrue(violations.isEmpty());
+        assertEquals(List.of(), describe(jakarta, user));
+    }
+
+    @Test
+    void validate_ShouldMatchJakartaOnEveryEmail() {
+        for (String email : EMAILS) {
+            UserDTO user = user(email, new BigDecimal("5000"));
+
+            assertEquals(describe(jakarta, user), describe(validator.validate(user)), "email: " + email);
+        }
+    }
+
+    @Test
+    void validate_ShouldMatchJakartaOnEverySalary() {
+        for (String salary : SALARIES) {
+            UserDTO user = user("john@test.com", new BigDecimal(salary));
+
+            assertEquals(describe(jakarta, user), describe(validator.validate(user)), "salary: " + salary);
+        }
+    }
+
+    @Test
+    void validate_WithMissingAndBlankFields_ShouldMatchJakarta() {
+        // Given
+        UserDTO empty = new UserDTO(null, null, null, null, null, null, null, null, null);
+        UserDTO blank = new UserDTO(" ", "\t", "\n", " ", LocalDate.of(1990, 1, 1), "  ", "\u0000", (byte) 1,
+                BigDecimal.ONE);
+        UserDTO unicodeSpace = new UserDTO("\u2003", "\u00a0", "Doe", "john@test.com", LocalDate.of(1990, 1, 1),
+                "calle 12", "3006008080", (byte) 1, BigDecimal.ONE);
+
+        // When & Then
+        for (UserDTO user : List.of(empty, blank, unicodeSpace)) {
+            assertEquals(describe(jakarta, user), describe(validator.validate(user)), user.toString());
+        }
+    }
+
+    @Test
+    void isPlainAsciiEmail_ShouldOnlyAcceptAddressesJakartaAccepts() {
+        for (String email : EMAILS) {
+            if (UserDTOValidator.isPlainAsciiEmail(email)) {
+                assertTrue(describe(jakarta, user(email, BigDecimal.ONE)).isEmpty(), email);
+            }
+        }
+        assertFalse(UserDTOValidator.isPlainAsciiEmail("josé@dominio.co"));
+    }
+
+    private static UserDTO user(String email, BigDecimal baseSalary) {
+        return new UserDTO("12345678", "John", "Doe", email, LocalDate.of(1990, 1, 1), "calle 12",
+                "3006008080", (byte) 1, baseSalary);
+    }
+
+    private static List<String> describe(Validator jakarta, UserDTO user) {
+        List<String> result = new ArrayList<>();
+        jakarta.validate(user).forEach(violation ->
+                result.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+        result.sort(null);
+        return result;
+    }
+
+    private static List<String> describe(List<ValidationException.FieldViolation> violations) {
+        List<String> result = new ArrayList<>();
+        violations.forEach(violation -> result.add(violation.getField() + ": " + violation.getMessage()));
+        result.sort(null);
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.pragma.api.helper;
 
+import co.com.pragma.api.dto.UserDTO;
 import co.com.pragma.model.user.exceptions.ValidationException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -12,6 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -138,6 +141,28 @@ class ValidationUtilTest {
         verify(validator).validate(validTestObject);
     }
 
+    @Test
+    void validate_WithUserDto_ShouldUseSpecializedValidator() {
+        // Given
+        UserDTO userDTO = new UserDTO("12345678", "John", "Doe", "john@test.com", LocalDate.of(1990, 1, 1),
+                "calle 12", "3006008080", (byte) 1, BigDecimal.valueOf(5000));
+        UserDTO invalid = new UserDTO("12345678", "", "Doe", "john@test.com", LocalDate.of(1990, 1, 1),
+                "calle 12", "3006008080", (byte) 1, BigDecimal.ZERO);
+
+        // When & Then
+        StepVerifier.create(validationUtil.validate(userDTO))
+                .expectNext(userDTO)
+                .verifyComplete();
+        StepVerifier.create(validationUtil.validate(invalid))
+                .expectErrorMatches(error -> error instanceof ValidationException validation
+                        && validation.getViolations().size() == 2
+                        && validation.getViolations().get(0).getField().equals("name")
+                        && validation.getViolations().get(1).getMessage().equals("Base salary must be greater than 0"))
+                .verify();
+
+        verifyNoInteractions(validator);
+    }
+
     @Test
     void validate_WithDifferentObjectType_ShouldWorkGenerically() {
         // Given
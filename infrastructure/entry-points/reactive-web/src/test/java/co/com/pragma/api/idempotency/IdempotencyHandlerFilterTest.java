@@ -0,0 +1,192 @@
+package co.com.pragma.api.idempotency;
+
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.api.helper.RequestBodyProperties;
+import co.com.pragma.api.web.exception.ErrorResponseWriter;
+import co.com.pragma.model.idempotency.entities.IdempotentResponse;
+import co.com.pragma.model.idempotency.ports.IIdempotencyStorePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+class IdempotencyHandlerFilterTest {
+
+    private static final IdempotencyProperties PROPERTIES = new IdempotencyProperties(true, "memory", null, 10L, null);
+    private static final JacksonFormats FORMATS = new JacksonFormats(new ObjectMapper().findAndRegisterModules());
+
+    private final AtomicInteger handled = new AtomicInteger();
+    private HttpStatus handlerStatus;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        handlerStatus = HttpStatus.CREATED;
+        webTestClient = client(new InMemoryIdempotencyStore(PROPERTIES));
+    }
+
+    @Test
+    void retryWithSameKeyAndBody_ShouldReplayFirstResponse() {
+        post("key-1", "{\"id_number\":\"1\"}")
+                .expectStatus().isCreated()
+                .expectBody().json("{\"call\":1}");
+
+        post("key-1", "{\"id_number\":\"1\"}")
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(IdempotencyHandlerFilter.REPLAYED_HEADER, "true")
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody().json("{\"call\":1}");
+
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    void retryOfAcceptedRequest_ShouldReplayItsLocation() {
+        handlerStatus = HttpStatus.ACCEPTED;
+        post("key-location", "{\"id_number\":\"1\"}")
+                .expectStatus().isAccepted()
+                .expectHeader().location("/users/registrations/1");
+
+        post("key-location", "{\"id_number\":\"1\"}")
+                .expectStatus().isAccepted()
+                .expectHeader().valueEquals(IdempotencyHandlerFilter.REPLAYED_HEADER, "true")
+                .expectHeader().location("/users/registrations/1");
+
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    void retryWithSameKeyAndDifferentBody_ShouldBeRejected() {
+        post("key-2", "{\"id_number\":\"1\"}").expectStatus().isCreated();
+
+        post("key-2", "{\"id_number\":\"2\"}")
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody().jsonPath("$.code").isEqualTo("IDEMPOTENCY_001");
+
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    void rejection_ShouldBeWrittenInTheAcceptedFormat() throws Exception {
+        post("key-cbor", "{\"id_number\":\"1\"}").expectStatus().isCreated();
+
+        byte[] body = webTestClient.post()
+                .uri("/users")
+                .header(IdempotencyHandlerFilter.IDEMPOTENCY_KEY_HEADER, "key-cbor")
+                .accept(MediaType.APPLICATION_CBOR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id_number\":\"2\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody().returnResult().getResponseBody();
+
+        assertThat(FORMATS.cbor().readTree(body).get("code").asText()).isEqualTo("IDEMPOTENCY_001");
+    }
+
+    @Test
+    void requestsWithoutKey_ShouldAlwaysReachHandler() {
+        webTestClient.post().uri("/users").bodyValue("{}").exchange().expectStatus().isCreated();
+        webTestClient.post().uri("/users").bodyValue("{}").exchange().expectStatus().isCreated();
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void serverErrors_ShouldNotBeStored() {
+        handlerStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+        post("key-3", "{}").expectStatus().is5xxServerError();
+
+        handlerStatus = HttpStatus.CREATED;
+        post("key-3", "{}")
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist(IdempotencyHandlerFilter.REPLAYED_HEADER);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void bodyOverLimit_ShouldBeRejectedWithoutReachingHandler() {
+        post("key-4", "{\"address\":\"" + "x".repeat(100) + "\"}")
+                .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE)
+                .expectBody().jsonPath("$.code").isEqualTo("SYSTEM_003");
+
+        assertThat(handled).hasValue(0);
+    }
+
+    @Test
+    void keyStoredAfterFirstLookup_ShouldBeReplayedInsteadOfRunningAgain() throws Exception {
+        String body = "{\"id_number\":\"5\"}";
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(PROPERTIES);
+        store.save("key-5", new IdempotentResponse(sha256(body), 201, MediaType.APPLICATION_JSON_VALUE,
+                "{\"call\":0}".getBytes(StandardCharsets.UTF_8)), Duration.ofMinutes(1)).block();
+        // the first lookup misses, as if the previous owner of the key stored its response right after it
+        AtomicInteger lookups = new AtomicInteger();
+        webTestClient = client(new IIdempotencyStorePort() {
+            @Override
+            public Mono<IdempotentResponse> find(String key) {
+                return lookups.getAndIncrement() == 0 ? Mono.empty() : store.find(key);
+            }
+
+            @Override
+            public Mono<Void> save(String key, IdempotentResponse response, Duration ttl) {
+                return store.save(key, response, ttl);
+            }
+        });
+
+        post("key-5", body)
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(IdempotencyHandlerFilter.REPLAYED_HEADER, "true")
+                .expectBody().json("{\"call\":0}");
+
+        assertThat(handled).hasValue(0);
+    }
+
+    private static String sha256(String body) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private WebTestClient.ResponseSpec post(String key, String body) {
+        return webTestClient.post()
+                .uri("/users")
+                .header(IdempotencyHandlerFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private WebTestClient client(IIdempotencyStorePort store) {
+        IdempotencyHandlerFilter filter = new IdempotencyHandlerFilter(store, PROPERTIES,
+                new RequestBodyProperties(DataSize.ofBytes(64)), new ErrorResponseWriter(FORMATS));
+
+        return WebTestClient.bindToRouterFunction(
+                RouterFunctions.route(POST("/users"), request -> request.bodyToMono(String.class)
+                                .flatMap(body -> {
+                                    int call = handled.incrementAndGet();
+                                    return ServerResponse.status(handlerStatus)
+                                            .location(URI.create("/users/registrations/" + call))
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .bodyValue("{\"call\":" + call + "}");
+                                }))
+                        .filter(filter)
+        ).build();
+    }
+}
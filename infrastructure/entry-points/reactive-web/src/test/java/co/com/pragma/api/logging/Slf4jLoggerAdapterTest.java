@@ -1,5 +1,6 @@
 package co.com.pragma.api.logging;
 
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
@@ -189,6 +190,78 @@ class Slf4jLoggerAdapterTest {
         assertEquals(extra1, arguments[4]);
         assertEquals(extra2, arguments[5]);
     }
+
+    @Test
+    void logMethods_WithLevelDisabled_ShouldNotLog() {
+        // Given
+        logger.setLevel(Level.ERROR);
+
+        // When
+        loggerAdapter.info("disabled-trace", "Info message: {}", "value");
+        loggerAdapter.debug("disabled-trace", "Debug message: {}", "value");
+        loggerAdapter.warn("disabled-trace", "Warning message: {}", "value");
+
+        // Then
+        assertTrue(listAppender.list.isEmpty());
+    }
+
+    @Test
+    void error_WithThrowableAndArgs_ShouldLogTraceIdArgsAndException() {
+        // Given
+        IllegalStateException exception = new IllegalStateException("boom");
+
+        // When
+        loggerAdapter.error("error-trace", "Error al persistir usuario {}", exception, "ID123");
+
+        // Then
+        assertEquals(1, listAppender.list.size());
+        ILoggingEvent loggingEvent = listAppender.list.get(0);
+        assertEquals(Level.ERROR, loggingEvent.getLevel());
+        assertEquals("TRACE_ID:error-trace - Error al persistir usuario ID123", loggingEvent.getFormattedMessage());
+        assertEquals("boom", loggingEvent.getThrowableProxy().getMessage());
+    }
+
+    @Test
+    void failure_WithDomainException_ShouldLogAtDebugWithoutStackTrace() {
+        // Given
+        UserAlreadyExistsException exception = UserAlreadyExistsException.byEmail("john@test.com");
+
+        // When
+        loggerAdapter.failure("failure-trace", "Registro fallido", exception);
+
+        // Then
+        assertEquals(1, listAppender.list.size());
+        ILoggingEvent loggingEvent = listAppender.list.get(0);
+        assertEquals(Level.DEBUG, loggingEvent.getLevel());
+        assertEquals("TRACE_ID:{} - Registro fallido: {}", loggingEvent.getMessage());
+        assertNull(loggingEvent.getThrowableProxy());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void failure_WithDomainExceptionAndDebugDisabled_ShouldNotLog() {
+        // Given
+        logger.setLevel(Level.INFO);
+
+        // When
+        loggerAdapter.failure("failure-trace", "Registro fallido", UserAlreadyExistsException.byEmail("john@test.com"));
+
+        // Then
+        assertFalse(loggerAdapter.isDebugEnabled());
+        assertTrue(listAppender.list.isEmpty());
+    }
+
+    @Test
+    void failure_WithUnexpectedException_ShouldLogAtErrorWithStackTrace() {
+        // When
+        loggerAdapter.failure("failure-trace", "Registro fallido", new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(1, listAppender.list.size());
+        ILoggingEvent loggingEvent = listAppender.list.get(0);
+        assertEquals(Level.ERROR, loggingEvent.getLevel());
+        assertNotNull(loggingEvent.getThrowableProxy());
+    }
 }
 
 // Tests de la lógica interna (sin logging real)
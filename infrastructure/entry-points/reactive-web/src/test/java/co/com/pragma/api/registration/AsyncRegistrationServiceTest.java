@@ -0,0 +1,120 @@
+package co.com.pragma.api.registration;
+
+import co.com.pragma.api.dto.RegistrationStatusDTO;
+import co.com.pragma.api.dto.UserDTO;
+import co.com.pragma.model.user.entities.User;
+import co.com.pragma.model.user.exceptions.UserAlreadyExistsException;
+import co.com.pragma.usecase.user.IUserUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncRegistrationServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final IUserUseCase userUseCase = mock(IUserUseCase.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AsyncRegistrationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void accept_ShouldJournalAndRegisterInBackground() {
+        when(userUseCase.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        service = startService();
+
+        RegistrationStatusDTO accepted = service.accept(userDTO("1")).block();
+
+        assertThat(accepted.status()).isEqualTo(RegistrationStatusDTO.ACCEPTED);
+        awaitStatus(accepted.trackingId(), RegistrationStatusDTO.CREATED);
+    }
+
+    @Test
+    void start_ShouldReplayPendingRegistrationsFromJournal() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+        RegistrationJournal.rewrite(path, List.of(
+                objectMapper.writeValueAsString(JournalEntry.accepted("done", userDTO("1"))),
+                objectMapper.writeValueAsString(JournalEntry.completed(
+                        new RegistrationStatusDTO("done", RegistrationStatusDTO.CREATED, null))),
+                objectMapper.writeValueAsString(JournalEntry.accepted("pending", userDTO("2")))));
+        when(userUseCase.save(any(User.class)))
+                .thenReturn(Mono.error(UserAlreadyExistsException.byIdNumber("2")));
+
+        service = startService();
+
+        StepVerifier.create(service.status("done"))
+                .expectNextMatches(status -> status.status().equals(RegistrationStatusDTO.CREATED))
+                .verifyComplete();
+        awaitStatus("pending", RegistrationStatusDTO.CONFLICT);
+    }
+
+    @Test
+    void journalCompactedWhileRunning_ShouldKeepStatusesWithoutReplayingRegistrations() {
+        when(userUseCase.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        service = startService(DataSize.ofBytes(1));
+
+        List<String> trackingIds = Flux.range(1, 5)
+                .concatMap(i -> service.accept(userDTO(String.valueOf(i))))
+                .map(RegistrationStatusDTO::trackingId)
+                .collectList()
+                .block();
+        trackingIds.forEach(trackingId -> awaitStatus(trackingId, RegistrationStatusDTO.CREATED));
+        service.stop();
+
+        service = startService(DataSize.ofBytes(1));
+
+        trackingIds.forEach(trackingId -> awaitStatus(trackingId, RegistrationStatusDTO.CREATED));
+        verify(userUseCase, times(5)).save(any(User.class));
+    }
+
+    private AsyncRegistrationService startService() {
+        return startService(null);
+    }
+
+    private AsyncRegistrationService startService(DataSize compactAfter) {
+        AsyncRegistrationProperties properties = new AsyncRegistrationProperties(
+                true, dir.resolve("journal.ndjson").toString(), null, 1_000, null, 0, null, compactAfter);
+        AsyncRegistrationService started = new AsyncRegistrationService(properties, userUseCase, objectMapper);
+        started.start();
+        return started;
+    }
+
+    private void awaitStatus(String trackingId, String expected) {
+        StepVerifier.create(service.status(trackingId)
+                        .filter(status -> status.status().equals(expected))
+                        .repeatWhenEmpty(50, attempts -> attempts.delayElements(Duration.ofMillis(20))))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    private static UserDTO userDTO(String idNumber) {
+        return new UserDTO(idNumber, "John", "Doe", "john" + idNumber + "@test.com",
+                LocalDate.of(1990, 1, 1), "calle 12", "3001234567", (byte) 1, BigDecimal.valueOf(5000));
+    }
+}
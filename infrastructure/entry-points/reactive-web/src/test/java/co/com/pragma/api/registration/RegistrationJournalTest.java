@@ -0,0 +1,213 @@
+package co.com.pragma.api.registration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrationJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void append_ConcurrentRecords_ShouldAllBeDurableAndReadable() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+
+        try (RegistrationJournal journal = RegistrationJournal.open(path, 8)) {
+            StepVerifier.create(Flux.range(0, 50)
+                            .flatMap(i -> journal.append("{\"n\":" + i + "}"))
+                            .then())
+                    .verifyComplete();
+        }
+
+        assertThat(RegistrationJournal.readRecords(path)).hasSize(50);
+    }
+
+    @Test
+    void append_AfterGroupFailedMidWrite_ShouldNotJoinTheTornBytes() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+        TearingFileChannel channel = new TearingFileChannel(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+
+        try (RegistrationJournal journal = new RegistrationJournal(channel, 8)) {
+            journal.append("{\"n\":1}").block();
+            channel.tearNextWrite = true;
+            StepVerifier.create(journal.append("{\"n\":2}"))
+                    .verifyError(IOException.class);
+            journal.append("{\"n\":3}").block();
+        }
+
+        assertThat(RegistrationJournal.readRecords(path)).containsExactly("{\"n\":1}", "{\"n\":3}");
+    }
+
+    @Test
+    void append_ShouldNotCompleteOnTheWriterThread() throws IOException {
+        try (RegistrationJournal journal = RegistrationJournal.open(dir.resolve("journal.ndjson"), 8)) {
+            StepVerifier.create(journal.append("{\"n\":1}")
+                            .then(Mono.fromSupplier(() -> Thread.currentThread().getName())))
+                    .assertNext(thread -> assertThat(thread).isNotEqualTo("registration-journal-writer"))
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void append_PastCompactAfter_ShouldReplaceJournalWithLiveRecords() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+
+        try (RegistrationJournal journal = RegistrationJournal.open(path, 8, 1, () -> List.of("{\"live\":1}"))) {
+            journal.append("{\"n\":1}").block();
+            journal.append("{\"n\":2}").block();
+        }
+
+        assertThat(RegistrationJournal.readRecords(path)).containsExactly("{\"live\":1}", "{\"n\":2}");
+    }
+
+    @Test
+    void readRecords_ShouldDropTornTrailingRecord() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+        Files.writeString(path, "{\"n\":1}\n{\"n\":2}\n{\"n\":");
+
+        assertThat(RegistrationJournal.readRecords(path)).containsExactly("{\"n\":1}", "{\"n\":2}");
+    }
+
+    @Test
+    void readRecords_ShouldSkipBlankLines() throws IOException {
+        Path path = dir.resolve("journal.ndjson");
+        Files.writeString(path, "{\"n\":1}\n\n{\"n\":2}\n");
+
+        assertThat(RegistrationJournal.readRecords(path)).containsExactly("{\"n\":1}", "{\"n\":2}");
+    }
+
+    @Test
+    void rewrite_ShouldReplaceJournalContent() throws IOException {
+        Path path = dir.resolve("nested/journal.ndjson");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "{\"n\":1}\n");
+
+        RegistrationJournal.rewrite(path, List.of("{\"n\":2}"));
+
+        assertThat(RegistrationJournal.readRecords(path)).containsExactly("{\"n\":2}");
+    }
+
+    /**
+     * Writes half of a buffer and fails when {@code tearNextWrite} is set, like a disk that fills up mid-record.
+     */
+    private static final class TearingFileChannel extends FileChannel {
+        private final FileChannel delegate;
+        private volatile boolean tearNextWrite;
+
+        private TearingFileChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (!tearNextWrite) {
+                return delegate.write(src);
+            }
+            tearNextWrite = false;
+            ByteBuffer half = src.duplicate();
+            half.limit(half.position() + half.remaining() / 2);
+            delegate.write(half);
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
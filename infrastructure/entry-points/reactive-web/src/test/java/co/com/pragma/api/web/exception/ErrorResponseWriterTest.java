@@ -0,0 +1,124 @@
+package co.com.pragma.api.web.exception;
+
+import co.com.pragma.api.helper.JacksonFormats;
+import co.com.pragma.model.user.exceptions.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ErrorResponseWriterTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2025-08-20T10:15:30.123456Z");
+    private static final List<String> MESSAGES = List.of(
+            "User not found", "", "Comillas \"dobles\" y \\barras\\", "Línea 1\nLínea 2\t\u0001",
+            "Usuario ya existe: josé@dominio.co ✓ 😀", "</script>");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final JacksonFormats formats = new JacksonFormats(objectMapper);
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(formats);
+
+    @Test
+    void encode_ShouldMatchJacksonForEveryErrorCodeAndMessage() throws Exception {
+        for (ErrorCode code : ErrorCode.values()) {
+            for (String message : MESSAGES) {
+                ApiError error = ApiError.of(HttpStatus.BAD_REQUEST, code, message);
+
+                JsonNode actual = readTree(writer.encode(DefaultDataBufferFactory.sharedInstance, error,
+                        "trace-\"1\"", MediaType.APPLICATION_JSON, TIMESTAMP));
+
+                assertEquals(expected(error, "trace-\"1\""), actual, code + ": " + message);
+            }
+        }
+    }
+
+    @Test
+    void encode_WithFieldErrorsOrNullValues_ShouldFallBackToJackson() throws Exception {
+        // Given
+        ApiError withFields = ApiError.from(new ValidationException("Validation failed",
+                List.of(new ValidationException.FieldViolation("email", "Email is not valid"))));
+        ApiError withoutMessage = ApiError.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR, null);
+
+        // When & Then
+        assertEquals(expected(withFields, "trace-1"), readTree(writer.encode(DefaultDataBufferFactory.sharedInstance,
+                withFields, "trace-1", MediaType.APPLICATION_JSON, TIMESTAMP)));
+        assertEquals(expected(withoutMessage, "trace-1"), readTree(writer.encode(
+                DefaultDataBufferFactory.sharedInstance, withoutMessage, "trace-1", MediaType.APPLICATION_JSON,
+                TIMESTAMP)));
+        assertEquals(expected(withoutMessage, null), readTree(writer.encode(DefaultDataBufferFactory.sharedInstance,
+                withoutMessage, null, MediaType.APPLICATION_JSON, TIMESTAMP)));
+    }
+
+    @Test
+    void encode_WithBinaryFormat_ShouldWriteThatFormat() throws Exception {
+        // Given
+        ApiError error = ApiError.of(HttpStatus.NOT_FOUND, ErrorCode.USER_NOT_FOUND, "User not found");
+
+        // When
+        DataBuffer buffer = writer.encode(DefaultDataBufferFactory.sharedInstance, error, "trace-1",
+                MediaType.APPLICATION_CBOR, TIMESTAMP);
+
+        // Then
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        assertEquals(expected(error, "trace-1"), formats.cbor().readTree(bytes));
+    }
+
+    @Test
+    void encode_WithNumericTimestamps_ShouldFallBackToJackson() throws Exception {
+        // Given
+        ObjectMapper numeric = new ObjectMapper().findAndRegisterModules();
+        ErrorResponseWriter numericWriter = new ErrorResponseWriter(new JacksonFormats(numeric));
+        ApiError error = ApiError.of(HttpStatus.CONFLICT, ErrorCode.USER_ALREADY_EXISTS, "User exists");
+
+        // When
+        DataBuffer buffer = numericWriter.encode(DefaultDataBufferFactory.sharedInstance, error, "trace-1",
+                MediaType.APPLICATION_JSON, TIMESTAMP);
+
+        // Then
+        assertEquals(numeric.writeValueAsString(error.toResponse("trace-1", TIMESTAMP)),
+                buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void from_WithValidationExceptionWithoutViolations_ShouldOmitFieldErrors() {
+        // When
+        ApiError error = ApiError.from(new ValidationException("Validation failed"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, error.status());
+        assertEquals(ErrorCode.VALIDATION_ERROR, error.code());
+        assertNull(error.errors());
+    }
+
+    @Test
+    void from_WithIllegalArgumentException_ShouldAnswerBadRequestWithItsMessage() {
+        // When
+        ApiError error = ApiError.from(new IllegalArgumentException("Invalid id"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, error.status());
+        assertEquals(ErrorCode.BAD_REQUEST, error.code());
+        assertEquals("Invalid id", error.message());
+    }
+
+    private JsonNode expected(ApiError error, String traceId) throws Exception {
+        return objectMapper.readTree(objectMapper.writeValueAsBytes(error.toResponse(traceId, TIMESTAMP)));
+    }
+
+    private JsonNode readTree(DataBuffer buffer) throws Exception {
+        return objectMapper.readTree(buffer.toString(StandardCharsets.UTF_8));
+    }
+}